@@ -0,0 +1,194 @@
+/**
+ * Blackjack basic strategy as a lookup table: every player hand and dealer
+ * upcard maps straight to the best play, with no decision logic at play time
+ *
+ * Table is for 4-8 decks, dealer stands on soft 17, double after split
+ * allowed. Rows are kept as Strings (one letter per dealer upcard 2-A) so the
+ * table reads like a printed strategy card:
+ * - H hit, S stand, P split
+ * - D double if allowed, otherwise hit
+ * - d double if allowed, otherwise stand
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   BasicStrategy
+ * -------------------------------------------------------
+ * + HIT : int				//static constant with value 0
+ * + STAND : int			//static constant with value 1
+ * + DOUBLE : int			//static constant with value 2
+ * + SPLIT : int			//static constant with value 3
+ * - HARD_ROWS : String[]	//strategy rows for hard totals 4-21
+ * - SOFT_ROWS : String[]	//strategy rows for soft totals 12-21
+ * - PAIR_ROWS : String[]	//strategy rows for pairs A-10
+ * - TABLE : byte[][]		//static table [row key][dealer upcard] of plays
+ * -------------------------------------------------------
+ * + decide(hand : int, dealerValue : int, canDouble : boolean, canSplit : boolean) : int
+ * + decide(hand : int, dealerValue : int) : int
+ * + getActionName(action : int) : String
+ * - rowKey(kind : int, total : int) : int
+ * - dealerIndex(dealerValue : int) : int
+ * - fillRows(kind : int, firstTotal : int, rows : String[]) : void
+ * -------------------------------------------------------
+ */
+
+public class BasicStrategy {
+
+	/*** CONSTANT VARIABLES ***/
+	public static final int HIT = 0;
+	public static final int STAND = 1;
+	public static final int DOUBLE = 2;
+	public static final int SPLIT = 3;
+
+	private static final String[] ACTION_NAMES = { "Hit", "Stand", "Double", "Split" };
+	private static final int HARD = 0;
+	private static final int SOFT = 1;
+	private static final int PAIR = 2;
+
+	//                                        dealer: 23456789TA
+	private static final String[] HARD_ROWS = { "HHHHHHHHHH", // 4
+		"HHHHHHHHHH", // 5
+		"HHHHHHHHHH", // 6
+		"HHHHHHHHHH", // 7
+		"HHHHHHHHHH", // 8
+		"HDDDDHHHHH", // 9
+		"DDDDDDDDHH", // 10
+		"DDDDDDDDDH", // 11
+		"HHSSSHHHHH", // 12
+		"SSSSSHHHHH", // 13
+		"SSSSSHHHHH", // 14
+		"SSSSSHHHHH", // 15
+		"SSSSSHHHHH", // 16
+		"SSSSSSSSSS", // 17
+		"SSSSSSSSSS", // 18
+		"SSSSSSSSSS", // 19
+		"SSSSSSSSSS", // 20
+		"SSSSSSSSSS" }; // 21
+	private static final String[] SOFT_ROWS = { "HHHHHHHHHH", // A A (can't split)
+		"HHHDDHHHHH", // A 2
+		"HHHDDHHHHH", // A 3
+		"HHDDDHHHHH", // A 4
+		"HHDDDHHHHH", // A 5
+		"HDDDDHHHHH", // A 6
+		"SddddSSHHH", // A 7
+		"SSSSSSSSSS", // A 8
+		"SSSSSSSSSS", // A 9
+		"SSSSSSSSSS" }; // A 10
+	private static final String[] PAIR_ROWS = { "PPPPPPPPPP", // A A
+		"PPPPPPHHHH", // 2 2
+		"PPPPPPHHHH", // 3 3
+		"HHHPPHHHHH", // 4 4
+		"DDDDDDDDHH", // 5 5
+		"PPPPPHHHHH", // 6 6
+		"PPPPPPHHHH", // 7 7
+		"PPPPPPPPPP", // 8 8
+		"PPPPPSPPSS", // 9 9
+		"SSSSSSSSSS" }; // 10 10
+
+	// one row per (kind, total) key, one column per dealer upcard 2-A
+	private static final byte[][] TABLE = new byte[3 * 32][10];
+
+	static {
+		fillRows(HARD, 4, HARD_ROWS);
+		fillRows(SOFT, 12, SOFT_ROWS);
+		fillRows(PAIR, 1, PAIR_ROWS);
+	}
+
+	/*** DECISION METHODS ***/
+	/**
+	 * Looks up best play for hand against dealer upcard
+	 *
+	 * @param hand        packed player hand (see {@link BlackjackScorer})
+	 * @param dealerValue numerical value (1-13) of dealer's face-up card
+	 * @param canDouble   true if doubling is allowed right now (usually first 2
+	 *                    cards only)
+	 * @param canSplit    true if splitting is allowed right now
+	 *
+	 * @return HIT, STAND, DOUBLE or SPLIT
+	 */
+	public static int decide(int hand, int dealerValue, boolean canDouble, boolean canSplit) {
+		int dealer = dealerIndex(dealerValue);
+		int total = BlackjackScorer.getTotal(hand);
+		byte play;
+
+		if (total >= BlackjackScorer.BLACKJACK) {
+			return STAND;
+		}
+
+		play = TABLE[rowKey(BlackjackScorer.isSoft(hand) ? SOFT : HARD, total)][dealer];
+		if (canSplit && BlackjackScorer.isPair(hand)) {
+			byte pairPlay = TABLE[rowKey(PAIR, BlackjackScorer.getFirstPoints(hand))][dealer];
+
+			if (pairPlay == 'P') {
+				return SPLIT;
+			}
+			play = pairPlay;
+		}
+
+		if (play == 'D') {
+			return canDouble ? DOUBLE : HIT;
+		} else if (play == 'd') {
+			return canDouble ? DOUBLE : STAND;
+		} else if (play == 'S') {
+			return STAND;
+		}
+		return HIT;
+	}
+
+	/**
+	 * Looks up best play for first 2 cards (doubling and splitting allowed)
+	 *
+	 * @param hand        packed player hand (see {@link BlackjackScorer})
+	 * @param dealerValue numerical value (1-13) of dealer's face-up card
+	 *
+	 * @return HIT, STAND, DOUBLE or SPLIT
+	 */
+	public static int decide(int hand, int dealerValue) {
+		return decide(hand, dealerValue, true, true);
+	}
+
+	/**
+	 * Access name of play (ex: Double)
+	 *
+	 * @param action HIT, STAND, DOUBLE or SPLIT
+	 *
+	 * @return action name
+	 */
+	public static String getActionName(int action) {
+		return ACTION_NAMES[action];
+	}
+
+	/*** HELPER METHODS ***/
+	/**
+	 * Row of TABLE for kind of hand (HARD, SOFT, PAIR) and its total (pair: points
+	 * of one card). Hard totals under 4 never happen, so are clamped to 4
+	 */
+	private static int rowKey(int kind, int total) {
+		return kind * 32 + (kind == HARD ? Math.max(total, 4) : total);
+	}
+
+	/**
+	 * Column of TABLE for dealer upcard: 2-10 (and J/Q/K) are 0-8, A is 9
+	 */
+	private static int dealerIndex(int dealerValue) {
+		int points = BlackjackScorer.getPoints(dealerValue);
+
+		return points == 1 ? 9 : points - 2;
+	}
+
+	/**
+	 * Copies strategy rows into TABLE, starting at given total
+	 */
+	private static void fillRows(int kind, int firstTotal, String[] rows) {
+		for (int i = 0; i < rows.length; i++) {
+			for (int dealer = 0; dealer < 10; dealer++) {
+				TABLE[rowKey(kind, firstTotal + i)][dealer] = (byte) rows[i].charAt(dealer);
+			}
+		}
+	}
+
+}
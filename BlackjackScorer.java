@@ -0,0 +1,224 @@
+/**
+ * Scores blackjack hands. A hand is kept as a single packed int that is updated
+ * one card at a time, so scoring a hand never builds objects and every question
+ * about it (total, soft, bust, blackjack, pair) is a few bit operations
+ *
+ * Packed hand layout:
+ * - bits 0-5: hard total (every A counted as 1)
+ * - bit 6: set if hand holds at least one A
+ * - bit 7: set if hand was made by splitting a pair (A + 10 is then 21, not a
+ * blackjack)
+ * - bits 8-12: number of cards
+ * - bits 16-19: points of first card (to spot pairs)
+ *
+ * Points: A is 1 (or 11 if that doesn't bust the hand, making it soft), 2-10 are
+ * face value, J/Q/K are 10
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   BlackjackScorer
+ * -------------------------------------------------------
+ * + EMPTY_HAND : int		//static constant with value 0
+ * + SPLIT_HAND : int		//static constant, empty hand made by splitting a pair
+ * + BLACKJACK : int		//static constant with value 21
+ * - POINTS : int[]			//static table of points for Card value 0-13
+ * -------------------------------------------------------
+ * + getPoints(value : int) : int
+ * + addCard(hand : int, value : int) : int
+ * + addCard(hand : int, card : Card) : int
+ * + score(cards : Card[]) : int
+ * + getHardTotal(hand : int) : int
+ * + getTotal(hand : int) : int
+ * + getCardCount(hand : int) : int
+ * + getFirstPoints(hand : int) : int
+ * + isSoft(hand : int) : boolean
+ * + isBust(hand : int) : boolean
+ * + isSplit(hand : int) : boolean
+ * + isBlackjack(hand : int) : boolean
+ * + isPair(hand : int) : boolean
+ * -------------------------------------------------------
+ */
+
+public class BlackjackScorer {
+
+	/*** CONSTANT VARIABLES ***/
+	public static final int EMPTY_HAND = 0;
+	public static final int SPLIT_HAND = 0x80;
+	public static final int BLACKJACK = 21;
+
+	private static final int HARD_MASK = 0x3F;
+	private static final int ACE_FLAG = 0x40;
+	private static final int COUNT_SHIFT = 8;
+	private static final int COUNT_MASK = 0x1F;
+	private static final int FIRST_SHIFT = 16;
+	private static final int FIRST_MASK = 0xF;
+	private static final int[] POINTS = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 10, 10, 10 };
+
+	/*** SCORING METHODS ***/
+	/**
+	 * Access blackjack points for Card value, A counted as 1
+	 *
+	 * @param value numerical value of card (1-13)
+	 *
+	 * @return points 1-10
+	 */
+	public static int getPoints(int value) {
+		return POINTS[value];
+	}
+
+	/**
+	 * Adds one card to packed hand
+	 *
+	 * @param hand  packed hand (EMPTY_HAND for a new hand, SPLIT_HAND for a hand
+	 *              split from a pair)
+	 * @param value numerical value of card (1-13)
+	 *
+	 * @return packed hand with card added
+	 */
+	public static int addCard(int hand, int value) {
+		int points = POINTS[value];
+
+		if (getCardCount(hand) == 0) {
+			hand |= points << FIRST_SHIFT;
+		}
+		if (points == 1) {
+			hand |= ACE_FLAG;
+		}
+		return hand + points + (1 << COUNT_SHIFT);
+	}
+
+	/**
+	 * Adds one card to packed hand. Card object not changed
+	 *
+	 * @param hand packed hand (EMPTY_HAND for a new hand)
+	 * @param card Card to add
+	 *
+	 * @return packed hand with card added
+	 */
+	public static int addCard(int hand, Card card) {
+		return addCard(hand, card.getValue());
+	}
+
+	/**
+	 * Packs whole hand at once. Array not changed
+	 *
+	 * @param cards Card objects in hand, in order dealt
+	 *
+	 * @return packed hand
+	 */
+	public static int score(Card[] cards) {
+		int hand = EMPTY_HAND;
+
+		for (Card card : cards) {
+			hand = addCard(hand, card.getValue());
+		}
+		return hand;
+	}
+
+	/*** ACCESSOR METHODS ***/
+	/**
+	 * Access hand total with every A counted as 1
+	 *
+	 * @param hand packed hand
+	 *
+	 * @return hard total
+	 */
+	public static int getHardTotal(int hand) {
+		return hand & HARD_MASK;
+	}
+
+	/**
+	 * Access best hand total: one A counted as 11 if that doesn't bust the hand
+	 *
+	 * @param hand packed hand
+	 *
+	 * @return total (over 21 means bust)
+	 */
+	public static int getTotal(int hand) {
+		return isSoft(hand) ? getHardTotal(hand) + 10 : getHardTotal(hand);
+	}
+
+	/**
+	 * Access number of cards in hand
+	 *
+	 * @param hand packed hand
+	 *
+	 * @return card count
+	 */
+	public static int getCardCount(int hand) {
+		return (hand >>> COUNT_SHIFT) & COUNT_MASK;
+	}
+
+	/**
+	 * Access points of first card dealt to hand (pair rank when {@link #isPair(int)})
+	 *
+	 * @param hand packed hand
+	 *
+	 * @return points 1-10, A is 1
+	 */
+	public static int getFirstPoints(int hand) {
+		return (hand >>> FIRST_SHIFT) & FIRST_MASK;
+	}
+
+	/**
+	 * Checks if hand counts an A as 11 (can't bust on next card)
+	 *
+	 * @param hand packed hand
+	 *
+	 * @return true if soft total, false if hard total
+	 */
+	public static boolean isSoft(int hand) {
+		return (hand & ACE_FLAG) != 0 && getHardTotal(hand) + 10 <= BLACKJACK;
+	}
+
+	/**
+	 * Checks if hand is over 21
+	 *
+	 * @param hand packed hand
+	 *
+	 * @return true if bust, false otherwise
+	 */
+	public static boolean isBust(int hand) {
+		return getHardTotal(hand) > BLACKJACK;
+	}
+
+	/**
+	 * Checks if hand was made by splitting a pair (started from SPLIT_HAND)
+	 *
+	 * @param hand packed hand
+	 *
+	 * @return true if split hand, false otherwise
+	 */
+	public static boolean isSplit(int hand) {
+		return (hand & SPLIT_HAND) != 0;
+	}
+
+	/**
+	 * Checks if hand is a natural blackjack (A and a 10-point card, first 2 cards,
+	 * not after a split)
+	 *
+	 * @param hand packed hand
+	 *
+	 * @return true if blackjack, false otherwise
+	 */
+	public static boolean isBlackjack(int hand) {
+		return !isSplit(hand) && getCardCount(hand) == 2 && getTotal(hand) == BLACKJACK;
+	}
+
+	/**
+	 * Checks if hand is 2 cards worth same points (ex: 8 8, or K 10)
+	 *
+	 * @param hand packed hand
+	 *
+	 * @return true if pair, false otherwise
+	 */
+	public static boolean isPair(int hand) {
+		return getCardCount(hand) == 2 && getHardTotal(hand) == 2 * getFirstPoints(hand);
+	}
+
+}
@@ -0,0 +1,366 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays full multi-seat blackjack rounds from a shuffled Shoe, every seat
+ * following {@link BasicStrategy} with a flat 1 unit bet, while keeping a
+ * running count with a {@link CountingSystem}. Results are bucketed by count at
+ * the start of each round, giving EV per count for house-edge and bet-ramp
+ * analysis: true count (running count / decks left) for balanced systems,
+ * running count from the system's initial running count for unbalanced ones
+ * (see {@link CountingSystem#getInitialRunningCount(int)}), since an unbalanced
+ * count drifts as the shoe is dealt and dividing it by decks left means nothing
+ *
+ * Rules: dealer stands on soft 17 and peeks for blackjack, blackjack pays 3:2,
+ * double on any first 2 cards (also after split), split up to 4 hands, split
+ * aces get one card each. If the shoe runs out mid-round it is reshuffled and
+ * the count starts over from the initial running count
+ *
+ * Shoes are split across a ForkJoinPool; each worker has its own Shoe and random
+ * generator (split from the seed) and plays whole shoes without sharing
+ * anything, so histograms are only merged at the end
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   BlackjackSimulator
+ * -------------------------------------------------------
+ * - seats : int
+ * - deckCount : int
+ * - penetration : double
+ * - system : CountingSystem
+ * + MAX_SEATS : int		//static constant with value 7
+ * + MAX_HANDS : int		//static constant with value 4, hands per seat after splits
+ * - SHOES_PER_TASK : long	//static constant, shoes before task is split
+ * -------------------------------------------------------
+ * + BlackjackSimulator(seats : int, deckCount : int, penetration : double,
+ *                      system : CountingSystem)
+ * + simulate(shoes : long, seed : long) : CountHistogram
+ * + simulate(shoes : long, seed : long, pool : ForkJoinPool) : CountHistogram
+ * + getSeats() : int
+ * + getDeckCount() : int
+ * + getPenetration() : double
+ * + getSystem() : CountingSystem
+ * -------------------------------------------------------
+ */
+
+public class BlackjackSimulator {
+
+	/*** CONSTANT VARIABLES ***/
+	public static final int MAX_SEATS = 7;
+	public static final int MAX_HANDS = 4;
+	private static final long SHOES_PER_TASK = 64;
+	private static final int DEALER_STANDS = 17;
+
+	/*** INSTANCE VARIABLES ***/
+	private final int seats;
+	private final int deckCount;
+	private final double penetration;
+	private final CountingSystem system;
+
+	/*** CONSTRUCTOR METHODS ***/
+	/**
+	 * Full constructor, sets up table
+	 *
+	 * @param seats       number of players at table (1-7)
+	 * @param deckCount   number of decks in shoe (1 or more)
+	 * @param penetration fraction of shoe dealt before reshuffle (more than 0, at
+	 *                    most 1)
+	 * @param system      counting system to track
+	 *
+	 * @throws IllegalArgumentException if any argument is not valid
+	 */
+	BlackjackSimulator(int seats, int deckCount, double penetration, CountingSystem system) {
+		if (seats < 1 || seats > MAX_SEATS || deckCount < 1 || !(penetration > 0 && penetration <= 1)
+			|| system == null) {
+			throw new IllegalArgumentException("Invalid Data, need 1-" + MAX_SEATS
+				+ " seats, 1+ decks, penetration in (0, 1] and a counting system");
+		}
+
+		this.seats = seats;
+		this.deckCount = deckCount;
+		this.penetration = penetration;
+		this.system = system;
+	}
+
+	/*** SIMULATION METHODS ***/
+	/**
+	 * Plays given number of shoes on the common ForkJoinPool
+	 *
+	 * @param shoes number of shoes to play, each played to the cut card
+	 * @param seed  seed for random generator, same seed gives same results
+	 *
+	 * @return hands and EV for each count (true count, or running count for an
+	 *         unbalanced system)
+	 */
+	public CountHistogram simulate(long shoes, long seed) {
+		return simulate(shoes, seed, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Plays given number of shoes on given ForkJoinPool
+	 *
+	 * @param shoes number of shoes to play, each played to the cut card
+	 * @param seed  seed for random generator, same seed gives same results
+	 * @param pool  pool to run workers on
+	 *
+	 * @return hands and EV for each count (true count, or running count for an
+	 *         unbalanced system)
+	 */
+	public CountHistogram simulate(long shoes, long seed, ForkJoinPool pool) {
+		return pool.invoke(new ShoeTask(this, shoes, new SplittableRandom(seed)));
+	}
+
+	/*** ACCESSOR METHODS (GETTERS) ***/
+	/**
+	 * Access number of players at table
+	 *
+	 * @return seat count
+	 */
+	public int getSeats() {
+		return seats;
+	}
+
+	/**
+	 * Access number of decks in shoe
+	 *
+	 * @return deck count
+	 */
+	public int getDeckCount() {
+		return deckCount;
+	}
+
+	/**
+	 * Access fraction of shoe dealt before reshuffle
+	 *
+	 * @return penetration
+	 */
+	public double getPenetration() {
+		return penetration;
+	}
+
+	/**
+	 * Access counting system tracked
+	 *
+	 * @return counting system
+	 */
+	public CountingSystem getSystem() {
+		return system;
+	}
+
+	/**
+	 * Plays a share of the shoes. Splits itself in half until share is small
+	 * enough, so the pool can spread work over every core. All per-round state
+	 * lives in arrays set up once per worker, so rounds allocate nothing
+	 */
+	private static class ShoeTask extends RecursiveTask<CountHistogram> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final BlackjackSimulator table;
+		private final long shoes;
+		private final SplittableRandom random;
+		private final boolean balanced;
+		private final int initialRunningCount;
+
+		private Shoe shoe;
+		private int runningCount;
+		private int[] seatHands;
+		private int[] hands;
+		private int[] bets;
+		private boolean[] splitAces;
+
+		ShoeTask(BlackjackSimulator table, long shoes, SplittableRandom random) {
+			this.table = table;
+			this.shoes = shoes;
+			this.random = random;
+			this.balanced = table.system.isBalanced();
+			this.initialRunningCount = table.system.getInitialRunningCount(table.deckCount);
+		}
+
+		@Override
+		protected CountHistogram compute() {
+			if (shoes > SHOES_PER_TASK) {
+				ShoeTask left = new ShoeTask(table, shoes / 2, random.split());
+				ShoeTask right = new ShoeTask(table, shoes - shoes / 2, random);
+				CountHistogram result;
+
+				left.fork();
+				result = right.compute();
+				result.add(left.join());
+				return result;
+			}
+
+			CountHistogram result = balanced ? new CountHistogram()
+				: new CountHistogram(initialRunningCount + CountHistogram.MIN_RUNNING_COUNT_OFFSET,
+					CountHistogram.MAX_RUNNING_COUNT, true);
+
+			shoe = new Shoe(table.deckCount, table.penetration);
+			seatHands = new int[table.seats];
+			hands = new int[table.seats * MAX_HANDS];
+			bets = new int[hands.length];
+			splitAces = new boolean[hands.length];
+
+			for (long i = 0; i < shoes; i++) {
+				this.reshuffle();
+				while (!shoe.needsShuffle()) {
+					result.record(this.getCount(), table.seats, this.playRound());
+				}
+			}
+			return result;
+		}
+
+		/**
+		 * Plays one round for every seat against the dealer
+		 *
+		 * @return total units won (negative if lost) by all seats
+		 */
+		private double playRound() {
+			int dealerUp;
+			int dealer;
+			int handCount = 0;
+			boolean anyStanding = false;
+			double result = 0;
+
+			for (int seat = 0; seat < table.seats; seat++) {
+				seatHands[seat] = BlackjackScorer.addCard(BlackjackScorer.EMPTY_HAND, this.draw());
+			}
+			dealerUp = this.draw();
+			for (int seat = 0; seat < table.seats; seat++) {
+				seatHands[seat] = BlackjackScorer.addCard(seatHands[seat], this.draw());
+			}
+			dealer = BlackjackScorer.addCard(BlackjackScorer.addCard(BlackjackScorer.EMPTY_HAND, dealerUp), this.draw());
+
+			if (BlackjackScorer.isBlackjack(dealer)) {
+				for (int seat = 0; seat < table.seats; seat++) {
+					result += BlackjackScorer.isBlackjack(seatHands[seat]) ? 0 : -1;
+				}
+				return result;
+			}
+
+			for (int seat = 0; seat < table.seats; seat++) {
+				if (BlackjackScorer.isBlackjack(seatHands[seat])) {
+					result += 1.5;
+				} else {
+					hands[handCount] = seatHands[seat];
+					bets[handCount] = 1;
+					splitAces[handCount] = false;
+					handCount = this.playSeat(handCount, dealerUp);
+				}
+			}
+
+			for (int i = 0; i < handCount; i++) {
+				anyStanding |= !BlackjackScorer.isBust(hands[i]);
+			}
+			while (anyStanding && BlackjackScorer.getTotal(dealer) < DEALER_STANDS) {
+				dealer = BlackjackScorer.addCard(dealer, this.draw());
+			}
+
+			for (int i = 0; i < handCount; i++) {
+				int player = BlackjackScorer.getTotal(hands[i]);
+				int dealerTotal = BlackjackScorer.getTotal(dealer);
+
+				if (BlackjackScorer.isBust(hands[i])) {
+					result -= bets[i];
+				} else if (BlackjackScorer.isBust(dealer) || player > dealerTotal) {
+					result += bets[i];
+				} else if (player < dealerTotal) {
+					result -= bets[i];
+				}
+			}
+			return result;
+		}
+
+		/**
+		 * Plays one seat's hand (and any hands split from it) by basic strategy
+		 *
+		 * @param first    index of seat's hand in hands array
+		 * @param dealerUp value of dealer's face-up card
+		 *
+		 * @return index after last hand this seat ended up with
+		 */
+		private int playSeat(int first, int dealerUp) {
+			int end = first + 1;
+
+			for (int i = first; i < end; i++) {
+				int hand = hands[i];
+
+				if (BlackjackScorer.getCardCount(hand) == 1) {
+					hand = BlackjackScorer.addCard(hand, this.draw());
+				}
+
+				while (!splitAces[i] && BlackjackScorer.getTotal(hand) < BlackjackScorer.BLACKJACK) {
+					boolean canSplit = BlackjackScorer.isPair(hand) && end - first < MAX_HANDS;
+					boolean canDouble = BlackjackScorer.getCardCount(hand) == 2;
+					int action = BasicStrategy.decide(hand, dealerUp, canDouble, canSplit);
+
+					if (action == BasicStrategy.SPLIT) {
+						int points = BlackjackScorer.getFirstPoints(hand);
+
+						hands[end] = BlackjackScorer.addCard(BlackjackScorer.SPLIT_HAND, points);
+						bets[end] = 1;
+						splitAces[end] = points == 1;
+						splitAces[i] = points == 1;
+						end++;
+						hand = BlackjackScorer.addCard(BlackjackScorer.addCard(BlackjackScorer.SPLIT_HAND, points),
+							this.draw());
+					} else if (action == BasicStrategy.DOUBLE) {
+						bets[i] = 2;
+						hand = BlackjackScorer.addCard(hand, this.draw());
+						break;
+					} else if (action == BasicStrategy.STAND) {
+						break;
+					} else {
+						hand = BlackjackScorer.addCard(hand, this.draw());
+					}
+				}
+				hands[i] = hand;
+			}
+			return end;
+		}
+
+		/**
+		 * Deals next card and adds its tag to running count, reshuffling if shoe
+		 * runs out mid-round
+		 *
+		 * @return value 1-13 of card dealt
+		 */
+		private int draw() {
+			int ordinal = shoe.dealOrdinal();
+
+			if (ordinal < 0) {
+				this.reshuffle();
+				ordinal = shoe.dealOrdinal();
+			}
+
+			int value = Card.decodeValue(ordinal);
+			runningCount += table.system.getTag(value);
+			return value;
+		}
+
+		/**
+		 * Count to bucket round by: true count for balanced systems, running count
+		 * for unbalanced ones
+		 */
+		private int getCount() {
+			if (!balanced) {
+				return runningCount;
+			}
+			return (int) Math.floor(runningCount * (double) Card.DECK_SIZE / shoe.remaining());
+		}
+
+		/**
+		 * Shuffles shoe and starts count over from initial running count
+		 */
+		private void reshuffle() {
+			shoe.shuffle(random);
+			runningCount = initialRunningCount;
+		}
+	}
+
+}
@@ -1,4 +1,11 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.security.PublicKey;
+import java.util.Arrays;
+import java.util.Comparator;
 
 /**
  * Represents one playing card from a standard 52-card deck
@@ -31,24 +38,73 @@ import java.security.PublicKey;
  * + SPADE : char			//static constant with value ♠
  * + DEFAULT_VALUE : int	//static constant with value 1
  * + DEFAULT_SUIT : char	//static constant with value ♥
+ * + DECK_SIZE : int		//static constant with value 52
+ * + BY_SUIT : Comparator<Card>	//static constant, orders by suit then value
+ * - SUITS : char[]			//static constant, suits in deck order ♥ ♦ ♣ ♠
+ * - CARD_POOL : Card[]		//static table of 52 shared, unchangeable cards
+ * - PRINT_VALUES : String[]	//static table of print values A, 2-10, J, Q, K
+ * - CARD_STRINGS : String[]	//static table of toString() for all 52 cards
+ * - SUIT_INDEX : byte[]	//static table of suit positions, indexed from ♠
+ * - VALID_SUIT_BITS : int	//static bitmap of suits, indexed from ♠
+ * - VALID_VALUE_BITS : int	//static bitmap of values 1-13
+ * - PRINT_CARD : String	//static constant, full deck grid built once
+ * - CARD_BYTES : byte[][]	//static table of UTF-8 toString() + space for all 52 cards
+ * - PRINT_CARD_BYTES : byte[]	//static constant, UTF-8 of printCard() output
+ * - isCanonical : boolean	//true only for cards in CARD_POOL
  * -------------------------------------------------------
  * + Card()
  * + Card(value : int, suit : char)
  * + Card(original : Card)
+ * - Card(value : int, suit : char, isCanonical : boolean)
+ * + of(value : int, suit : char) : Card
+ * + decode(ordinal : int) : Card
+ * ~ decodeUnchecked(ordinal : int) : Card
+ * + decodeAll(ordinals : byte[]) : Card[]
+ * + encode(value : int, suit : char) : int
+ * + encodeAll(cards : Card[]) : byte[]
+ * + decodeValue(ordinal : int) : int
+ * + suitIndex(suit : char) : int
+ * + decodeSuitIndex(ordinal : int) : int
+ * + decodeSuit(ordinal : int) : char
+ * + isValidSuit(suit : char) : boolean
+ * + isValidValue(value : int) : boolean
+ * + isValidCard(value : int, suit : char) : boolean
  * + setValue(value : int) : boolean
  * + setSuit(suit : char) : boolean
  * + setAll(value : int, suit : char) : boolean
  * + getSuit() : char
+ * + getSuitIndex() : int
  * + getValue() : int
+ * + encode() : int
  * + getPrintValue() : String
  * + getPrintCard() : String
+ * + appendPrintCard(out : Appendable) : void
+ * + appendCards(cards : Card[], out : Appendable) : void
  * + toString() : String
  * + equals(otherCard : Card) : boolean
+ * + equals(other : Object) : boolean
+ * + hashCode() : int
+ * + compareTo(other : Card) : int
+ * + sort(hand : Card[]) : void
+ * + sortBySuit(hand : Card[]) : void
+ * + sort(hand : byte[], from : int, to : int) : void
+ * + sortBySuit(hand : byte[], from : int, to : int) : void
  * + printCard() : void
+ * + printCard(out : OutputStream) : void
+ * + printCard(out : WritableByteChannel) : void
+ * + writeCards(cards : Card[], out : OutputStream) : void
+ * - invalidMessage(value : int, suit : char) : String
+ * - suitMiss(suit : char) : int
+ * - valueMiss(value : int) : int
+ * - appendGrid(builder : StringBuilder) : void
+ * - rankKey(ordinal : int) : int
+ * - insertionSort(hand : Card[], order : Comparator<Card>) : void
+ * - bitSort(hand : byte[], from : int, to : int, byRank : boolean) : void
+ * - insertionSortByRank(hand : byte[], from : int, to : int) : void
  * -------------------------------------------------------
  */
 
-public class Card {
+public class Card implements Comparable<Card> {
 
 	/*** CONSTANT VARIABLES ***/
 	public static final char HEART = '\u2665';
@@ -57,11 +113,50 @@ public class Card {
 	public static final char SPADE = '\u2660';
 	public static final char DEFAULT_SUIT = '\u2665';
 	public static final int DEFAULT_VALUE = 1;
+	public static final int DECK_SIZE = 52;
+	public static final Comparator<Card> BY_SUIT = (first, second) -> Integer.compare(first.encode(), second.encode());
+
+	/*** STATIC VARIABLES ***/
+	private static final char[] SUITS = { HEART, DIAMOND, CLUB, SPADE };
+	private static final Card[] CARD_POOL = new Card[DECK_SIZE];
+	// hands at or below this size are sorted by insertion sort instead of Arrays.sort
+	private static final int SMALL_HAND = 16;
+	private static final String[] PRINT_VALUES = { "A", "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K" };
+	private static final String[] CARD_STRINGS = new String[DECK_SIZE];
+	// suits are unicode ♠ (2660) through ♦ (2666), table holds position of each
+	// in SUITS or -1 for the unicode chars in between that aren't suits
+	private static final byte[] SUIT_INDEX = { 3, -1, -1, 2, -1, 0, 1, -1 };
+	// bit n set if char ♠ + n is a suit (♠ 0, ♣ 3, ♥ 5, ♦ 6), and bit n set if n
+	// is a valid value (1-13), so validation is a shift and mask with no branches
+	private static final int VALID_SUIT_BITS = 0x69;
+	private static final int VALID_VALUE_BITS = 0x3FFE;
+	private static final String PRINT_CARD;
+	private static final byte[][] CARD_BYTES = new byte[DECK_SIZE][];
+	private static final byte[] PRINT_CARD_BYTES;
+
+	static {
+		StringBuilder printCard = new StringBuilder(DECK_SIZE * 5);
+
+		for (int s = 0; s < SUITS.length; s++) {
+			for (int v = 1; v <= 13; v++) {
+				CARD_POOL[s * 13 + (v - 1)] = new Card(v, SUITS[s], true);
+				CARD_STRINGS[s * 13 + (v - 1)] = PRINT_VALUES[v - 1] + " " + SUITS[s];
+			}
+		}
 
+		appendGrid(printCard);
+		PRINT_CARD = printCard.toString();
+
+		for (int ordinal = 0; ordinal < DECK_SIZE; ordinal++) {
+			CARD_BYTES[ordinal] = (CARD_STRINGS[ordinal] + " ").getBytes(StandardCharsets.UTF_8);
+		}
+		PRINT_CARD_BYTES = (PRINT_CARD + "\n").getBytes(StandardCharsets.UTF_8);
+	}
 
 	/*** INSTANCE VARIABLES ***/
 	private int value;
 	private char suit;
+	private final boolean isCanonical;
 
 	/*** CONSTRUCTOR METHODS ***/
 	/**
@@ -70,25 +165,26 @@ public class Card {
 	Card() {
 		this.value = DEFAULT_VALUE;
 		this.suit = DEFAULT_SUIT;
+		this.isCanonical = false;
 	}
 
 	/**
 	 * Full constructor builds object with all data for instance variables provided.
-	 * If arguments are not valid, program shuts down with error message
+	 * If arguments are not valid, throws exception so caller can reject input and
+	 * keep running
 	 *
 	 * @param value numerical value of card (1-13), not what shows on card (A, 2-10,
 	 *              J, Q, K)
 	 * @param suit  one of four suit values (unicode value for heart, diamond,
 	 *              spade, or club)
+	 *
+	 * @throws IllegalArgumentException if value or suit is not valid
 	 */
 	Card(int value, char suit) {
-		boolean isValid;
-
-		isValid = this.setAll(value, suit);
+		this.isCanonical = false;
 
-		if (!isValid) {
-			System.out.println("Invalid Data. Shutting Down...");
-			System.exit(0);
+		if (!this.setAll(value, suit)) {
+			throw new IllegalArgumentException(invalidMessage(value, suit));
 		}
 	}
 
@@ -97,23 +193,250 @@ public class Card {
 	 * changes made to original object, no shallow copying
 	 *
 	 * @param original Card object to be copied
+	 *
+	 * @throws IllegalArgumentException if original is null
 	 */
 	Card(Card other) {
-		if (other != null) {
-			this.setAll(other.value, other.suit);
-		} else {
-			System.out.println("Null Given, Shutting Down...");
-			System.exit(0);
+		if (other == null) {
+			throw new IllegalArgumentException("Null Given, Card can't be copied");
 		}
+
+		this.isCanonical = false;
 		this.value = other.value;
 		this.suit = other.suit;
 	}
 
+	/**
+	 * Pool constructor, only used to fill CARD_POOL. Arguments are assumed valid
+	 *
+	 * @param value       numerical value of card (1-13)
+	 * @param suit        one of four suit values
+	 * @param isCanonical true if card is shared and can never be changed
+	 */
+	private Card(int value, char suit, boolean isCanonical) {
+		this.value = value;
+		this.suit = suit;
+		this.isCanonical = isCanonical;
+	}
+
+	/*** FACTORY METHODS ***/
+	/**
+	 * Access shared card for given value and suit without building a new object.
+	 * Shared cards can't be changed (setters always return false), so they are
+	 * safe to hand out to any caller. If arguments are not valid, throws exception
+	 * (same as full constructor). Use {@link #encode(int, char)} instead to check
+	 * input without an exception
+	 *
+	 * @param value numerical value of card (1-13), not what shows on card (A, 2-10,
+	 *              J, Q, K)
+	 * @param suit  one of four suit values (unicode value for heart, diamond,
+	 *              spade, or club)
+	 *
+	 * @return shared Card object from 52 card pool
+	 *
+	 * @throws IllegalArgumentException if value or suit is not valid
+	 */
+	public static Card of(int value, char suit) {
+		int suitIndex = suitIndex(suit);
+
+		if (suitIndex < 0 || value < 1 || value > 13) {
+			throw new IllegalArgumentException(invalidMessage(value, suit));
+		}
+
+		return CARD_POOL[suitIndex * 13 + (value - 1)];
+	}
+
+	/**
+	 * Access shared card for given ordinal (see {@link #encode()}). If ordinal is
+	 * not valid, throws exception (same as full constructor)
+	 *
+	 * @param ordinal card number 0-51
+	 *
+	 * @return shared Card object from 52 card pool
+	 *
+	 * @throws IllegalArgumentException if ordinal is not 0-51
+	 */
+	public static Card decode(int ordinal) {
+		if (ordinal < 0 || ordinal >= DECK_SIZE) {
+			throw new IllegalArgumentException("Invalid Data, card number " + ordinal + " is not 0-51");
+		}
+
+		return CARD_POOL[ordinal];
+	}
+
+	/**
+	 * Access shared card for ordinal that is already known to be valid (ex: one
+	 * dealt from a Deck or returned by {@link #encode(int, char)}), skipping
+	 * validation. Ordinal is not checked: anything outside 0-51 fails with
+	 * ArrayIndexOutOfBoundsException, so never pass unchecked input here. Only
+	 * classes in this package call it, public callers use {@link #decode(int)}
+	 *
+	 * @param ordinal card number 0-51
+	 *
+	 * @return shared Card object from 52 card pool
+	 */
+	static Card decodeUnchecked(int ordinal) {
+		return CARD_POOL[ordinal];
+	}
+
+	/**
+	 * Builds array of shared cards from packed ordinals (see {@link #encodeAll(Card[])})
+	 *
+	 * @param ordinals card numbers 0-51, one per byte
+	 *
+	 * @return new Card array with shared Card objects in same order as ordinals
+	 */
+	public static Card[] decodeAll(byte[] ordinals) {
+		Card[] cards = new Card[ordinals.length];
+
+		for (int i = 0; i < ordinals.length; i++) {
+			cards[i] = decode(ordinals[i]);
+		}
+
+		return cards;
+	}
+
+	/*** ENCODING METHODS ***/
+	/**
+	 * Packs value and suit into single card number 0-51. Cards are numbered in deck
+	 * order (♥ ♦ ♣ ♠), A through K within each suit, so ordinal is
+	 * (suit position * 13) + (value - 1)
+	 *
+	 * @param value numerical value of card (1-13)
+	 * @param suit  one of four suit values
+	 *
+	 * @return card number 0-51, or -1 if value or suit is not valid
+	 */
+	public static int encode(int value, char suit) {
+		int suitIndex = suitIndex(suit);
+
+		if (suitIndex < 0 || value < 1 || value > 13) {
+			return -1;
+		}
+
+		return suitIndex * 13 + (value - 1);
+	}
+
+	/**
+	 * Packs array of cards into one byte per card (see {@link #encode()}), so hands
+	 * and decks can be stored without a Card object per card
+	 *
+	 * @param cards Card objects to pack, not changed
+	 *
+	 * @return new byte array with card numbers 0-51 in same order as cards
+	 */
+	public static byte[] encodeAll(Card[] cards) {
+		byte[] ordinals = new byte[cards.length];
+
+		for (int i = 0; i < cards.length; i++) {
+			ordinals[i] = (byte) cards[i].encode();
+		}
+
+		return ordinals;
+	}
+
+	/**
+	 * Unpacks numerical value (1-13) from card number
+	 *
+	 * @param ordinal card number 0-51
+	 *
+	 * @return value 1-13 of card
+	 */
+	public static int decodeValue(int ordinal) {
+		return ordinal % 13 + 1;
+	}
+
+	/**
+	 * Position of suit in deck order (♥ 0, ♦ 1, ♣ 2, ♠ 3), same as
+	 * {@link Suit#getIndex()}, so per-suit counts and masks can be kept in
+	 * arrays. Table lookup, no switch on the char
+	 *
+	 * @param suit unicode character for suit
+	 *
+	 * @return index 0-3 of suit, or -1 if suit is not valid
+	 */
+	public static int suitIndex(char suit) {
+		int offset = suit - SPADE;
+
+		if (offset < 0 || offset >= SUIT_INDEX.length) {
+			return -1;
+		}
+		return SUIT_INDEX[offset];
+	}
+
+	/**
+	 * Unpacks suit index (see {@link #suitIndex(char)}) from card number
+	 *
+	 * @param ordinal card number 0-51
+	 *
+	 * @return suit index 0-3 of card
+	 */
+	public static int decodeSuitIndex(int ordinal) {
+		return ordinal / 13;
+	}
+
+	/**
+	 * Unpacks suit from card number
+	 *
+	 * @param ordinal card number 0-51
+	 *
+	 * @return unicode character for suit of card
+	 */
+	public static char decodeSuit(int ordinal) {
+		return SUITS[ordinal / 13];
+	}
+
+	/*** VALIDATION METHODS ***/
+	/**
+	 * Checks if char is one of the four suits, without branching: offset from ♠
+	 * must fit in 3 bits and land on a set bit of VALID_SUIT_BITS
+	 *
+	 * @param suit char to check
+	 *
+	 * @return true if suit is ♥, ♦, ♣ or ♠, false otherwise
+	 */
+	public static boolean isValidSuit(char suit) {
+		return suitMiss(suit) == 0;
+	}
+
+	/**
+	 * Checks if number is a card value, without branching: value must fit in 4
+	 * bits and land on a set bit of VALID_VALUE_BITS
+	 *
+	 * @param value number to check
+	 *
+	 * @return true if value is between 1 and 13 (inclusive), false otherwise
+	 */
+	public static boolean isValidValue(int value) {
+		return valueMiss(value) == 0;
+	}
+
+	/**
+	 * Checks value and suit together with a single comparison at the end, for
+	 * validating cards in bulk (ex: off the network). Setters and factories keep
+	 * the == compares on purpose: on the same random input they measured faster
+	 * than this method in JMH (CardBenchmarks validateChain/validateBitmap and
+	 * setAll, in the benchmarks module)
+	 *
+	 * @param value number to check
+	 * @param suit  char to check
+	 *
+	 * @return true if both are valid, false otherwise
+	 */
+	public static boolean isValidCard(int value, char suit) {
+		int offset = suit - SPADE;
+
+		// both bitmap bits must be set and nothing may be out of range, so exactly 1
+		return (((VALID_SUIT_BITS >>> (offset & 7)) & (VALID_VALUE_BITS >>> (value & 15)) & 1) | (offset & ~7)
+			| (value & ~15)) == 1;
+	}
+
 	/*** MUTATOR METHODS (SETTERS) ***/
 	/**
 	 * Sets value for card only if valid, otherwise will not change instance
 	 * variable. Returns boolean representing whether error occured (false) or
-	 * operation completed successfully (true)
+	 * operation completed successfully (true). Shared cards (see {@link #of(int, char)})
+	 * are never changed
 	 *
 	 * @param value numerical value of card (1-13), not what shows on card (A, 2-10,
 	 *              J, Q, K)
@@ -124,7 +447,7 @@ public class Card {
 	public boolean setValue(int value) {
 		boolean isValid;
 
-		isValid = value >= 1 && value <= 13;
+		isValid = !isCanonical && value >= 1 && value <= 13;
 
 		if (isValid) {
 			this.value = value;
@@ -137,7 +460,8 @@ public class Card {
 	/**
 	 * Sets suit for card only if valid, otherwise will not change instance
 	 * variable. Returns boolean representing whether error occured (false) or
-	 * operation completed successfully (true)
+	 * operation completed successfully (true). Shared cards (see {@link #of(int, char)})
+	 * are never changed
 	 *
 	 * @param suit one of four suit values (unicode value for heart, diamond, spade,
 	 *             or club)
@@ -148,7 +472,7 @@ public class Card {
 	public boolean setSuit(char suit) {
 		boolean isValid;
 
-		isValid = suit == HEART || suit == DIAMOND || suit == SPADE || suit == CLUB;
+		isValid = !isCanonical && (suit == HEART || suit == DIAMOND || suit == SPADE || suit == CLUB);
 
 		if (isValid) {
 			this.suit = suit;
@@ -160,7 +484,8 @@ public class Card {
 
 	/**
 	 * Sets suit and value for card only if valid, returns boolean representing
-	 * whether error occured (false) or operation completed successfully (true)
+	 * whether error occured (false) or operation completed successfully (true).
+	 * Shared cards (see {@link #of(int, char)}) are never changed
 	 *
 	 * @param suit  one of four suit values (unicode value for heart, diamond,
 	 *              spade, or club)
@@ -173,7 +498,7 @@ public class Card {
 	public boolean setAll(int value, char suit) {
 		boolean isValid;
 
-		isValid = (suit == HEART || suit == DIAMOND || suit == SPADE || suit == CLUB) && (value >= 1 && value <= 13);
+		isValid = !isCanonical && (suit == HEART || suit == DIAMOND || suit == SPADE || suit == CLUB) && (value >= 1 && value <= 13);
 
 		if (isValid) {
 			this.suit = suit;
@@ -193,6 +518,15 @@ public class Card {
 	}
 
 
+	/**
+	 * Access position of card's suit in deck order (see {@link #suitIndex(char)})
+	 *
+	 * @return suit index 0-3
+	 */
+	public int getSuitIndex() {
+		return SUIT_INDEX[suit - SPADE];
+	}
+
 	/**
 	 * Access numerical value of card (1-13)
 	 *
@@ -203,6 +537,16 @@ public class Card {
 		return value;
 	}
 
+	/**
+	 * Access card packed as single number 0-51 (see {@link #encode(int, char)}),
+	 * always valid since instance variables are always valid
+	 *
+	 * @return card number 0-51
+	 */
+	public int encode() {
+		return SUIT_INDEX[suit - SPADE] * 13 + (value - 1);
+	}
+
 	/**
 	 * Access value of card as seen by user (A, 2-10, J, Q, K) that would be printed
 	 * on card
@@ -211,60 +555,46 @@ public class Card {
 	 *         value 1-13 (see {@link #getValue()})
 	 */
 	public String getPrintValue() {
-		String printValue;
-		if (value == 1) {
-			printValue = "A";
-		} else if (value == 2) {
-			printValue = "2";
-		} else if (value == 3) {
-			printValue = "3";
-		} else if (value == 4) {
-			printValue = "4";
-		} else if (value == 5) {
-			printValue = "5";
-		} else if (value == 6) {
-			printValue = "6";
-		} else if (value == 7) {
-			printValue = "7";
-		} else if (value == 8) {
-			printValue = "8";
-		} else if (value == 9) {
-			printValue = "9";
-		} else if (value == 10) {
-			printValue = "10";
-		} else if (value == 11) {
-			printValue = "J";
-		} else if (value == 12) {
-			printValue = "Q";
-		} else {
-			printValue = "K";
-		}
-		return printValue;
+		return PRINT_VALUES[value - 1];
 	}
 
 
 	/**
 	 * Access ASCII art version of card data, each line separated by newline
-	 * character, no newline character at end of String
+	 * character, no newline character at end of String. Deck never changes, so
+	 * the same String is built once and returned every time
 	 *
 	 * @return String containing ASCII art with card suit and card print value
 	 */
 	public String getPrintCard() {
-		String cardDeckString = "";
-
-		char[] suits = { HEART, DIAMOND, CLUB, SPADE};
-		int[] rank = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13 };
+		return PRINT_CARD;
+	}
 
-		for (char suit : suits) {
-			for (int ranks : rank) {
-				Card cardNew = new Card(ranks, suit);
-				cardDeckString += cardNew.toString() + " ";
-			}
-			cardDeckString += "\n";
+	/**
+	 * Writes ASCII art version of card data (see {@link #getPrintCard()}) to given
+	 * output, no new String built
+	 *
+	 * @param out StringBuilder, Writer, etc. to write to
+	 *
+	 * @throws IOException if out can't be written to
+	 */
+	public void appendPrintCard(Appendable out) throws IOException {
+		out.append(PRINT_CARD);
+	}
 
+	/**
+	 * Writes each card (see {@link #toString()}) followed by a space to given
+	 * output, no new Strings built. Cards array not changed
+	 *
+	 * @param cards Card objects to write, in order
+	 * @param out   StringBuilder, Writer, etc. to write to
+	 *
+	 * @throws IOException if out can't be written to
+	 */
+	public static void appendCards(Card[] cards, Appendable out) throws IOException {
+		for (Card card : cards) {
+			out.append(card.toString()).append(' ');
 		}
-		return cardDeckString;
-
 	}
 	/*** OTHER REQUIRED METHODS ***/
 	/**
@@ -275,35 +605,7 @@ public class Card {
 	 */
 
 	public String toString() {
-		String printValue;
-		if (value == 1) {
-			printValue = "A";
-		} else if (value == 2) {
-			printValue = "2";
-		} else if (value == 3) {
-			printValue = "3";
-		} else if (value == 4) {
-			printValue = "4";
-		} else if (value == 5) {
-			printValue = "5";
-		} else if (value == 6) {
-			printValue = "6";
-		} else if (value == 7) {
-			printValue = "7";
-		} else if (value == 8) {
-			printValue = "8";
-		} else if (value == 9) {
-			printValue = "9";
-		} else if (value == 10) {
-			printValue = "10";
-		} else if (value == 11) {
-			printValue = "J";
-		} else if (value == 12) {
-			printValue = "Q";
-		} else {
-			printValue = "K";
-		}
-		return printValue + " " + suit;
+		return CARD_STRINGS[this.encode()];
 	}
 
 
@@ -318,7 +620,99 @@ public class Card {
 	 */
 
 	public boolean equals(Card other) {
-		return this.value == other.value && this.suit == other.suit;
+		return other != null && this.value == other.value && this.suit == other.suit;
+	}
+
+	/**
+	 * Checking for equality with any object, so Card works as key in HashMap,
+	 * HashSet, etc. Equal only if other is a Card with same value and suit (see
+	 * {@link #equals(Card)}). Argument object not changed
+	 *
+	 * @param other object to compare for equality
+	 *
+	 * @return true if other is a Card with exactly equal data, false otherwise
+	 */
+	public boolean equals(Object other) {
+		return other instanceof Card && this.equals((Card) other);
+	}
+
+	/**
+	 * Hash code is card number 0-51 (see {@link #encode()}), so every card has its
+	 * own hash with no collisions. Changing value/suit changes the hash, so don't
+	 * change a card while it is a key in a hash-based collection
+	 *
+	 * @return card number 0-51
+	 */
+	public int hashCode() {
+		return this.encode();
+	}
+
+	/*** ORDERING METHODS ***/
+	/**
+	 * Natural ordering of cards: by value (A low, K high), then by suit in deck
+	 * order (♥ ♦ ♣ ♠). Consistent with {@link #equals(Object)}. Argument object
+	 * not changed
+	 *
+	 * @param other Card object to compare to
+	 *
+	 * @return negative if this card comes first, positive if other card comes
+	 *         first, 0 if equal
+	 */
+	public int compareTo(Card other) {
+		return Integer.compare(rankKey(this.encode()), rankKey(other.encode()));
+	}
+
+	/**
+	 * Sorts hand into natural order (see {@link #compareTo(Card)}). Small hands use
+	 * insertion sort, which beats Arrays.sort for 2-7 card hands
+	 *
+	 * @param hand Card objects to sort in place
+	 */
+	public static void sort(Card[] hand) {
+		if (hand.length <= SMALL_HAND) {
+			insertionSort(hand, Comparator.naturalOrder());
+		} else {
+			Arrays.sort(hand);
+		}
+	}
+
+	/**
+	 * Sorts hand by suit in deck order (♥ ♦ ♣ ♠), then by value (see
+	 * {@link #BY_SUIT})
+	 *
+	 * @param hand Card objects to sort in place
+	 */
+	public static void sortBySuit(Card[] hand) {
+		if (hand.length <= SMALL_HAND) {
+			insertionSort(hand, BY_SUIT);
+		} else {
+			Arrays.sort(hand, BY_SUIT);
+		}
+	}
+
+	/**
+	 * Sorts packed hand (card numbers, see {@link #encode()}) into natural order
+	 * (see {@link #compareTo(Card)}). Hands without repeated cards are sorted in one
+	 * pass over a 52-bit mask, no comparisons
+	 *
+	 * @param hand card numbers 0-51 to sort in place
+	 * @param from first index to sort (inclusive)
+	 * @param to   last index to sort (exclusive)
+	 */
+	public static void sort(byte[] hand, int from, int to) {
+		bitSort(hand, from, to, true);
+	}
+
+	/**
+	 * Sorts packed hand (card numbers, see {@link #encode()}) by suit, then value,
+	 * which is the same as sorting the card numbers
+	 *
+	 * @param hand card numbers 0-51 to sort in place
+	 * @param from first index to sort (inclusive)
+	 * @param to   last index to sort (exclusive)
+	 */
+	public static void sortBySuit(byte[] hand, int from, int to) {
+		bitSort(hand, from, to, false);
 	}
 
 	/*** EXTRA METHODS ***/
@@ -329,4 +723,179 @@ public class Card {
 		System.out.println(getPrintCard());
 	}
 
+	/**
+	 * Writes card ASCII art plus newline (same as {@link #printCard()}) as UTF-8
+	 * bytes to given stream. Bytes are encoded once ahead of time, so nothing is
+	 * re-encoded per call. Stream is not flushed or closed
+	 *
+	 * @param out stream to write to
+	 *
+	 * @throws IOException if out can't be written to
+	 */
+	public void printCard(OutputStream out) throws IOException {
+		out.write(PRINT_CARD_BYTES);
+	}
+
+	/**
+	 * Writes card ASCII art plus newline (same as {@link #printCard()}) as UTF-8
+	 * bytes to given channel, blocking until all bytes are written. Channel is not
+	 * closed
+	 *
+	 * @param out channel to write to
+	 *
+	 * @throws IOException if out can't be written to
+	 */
+	public void printCard(WritableByteChannel out) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(PRINT_CARD_BYTES);
+
+		while (buffer.hasRemaining()) {
+			out.write(buffer);
+		}
+	}
+
+	/**
+	 * Writes each card (see {@link #toString()}) followed by a space as UTF-8 bytes
+	 * to given stream, using bytes encoded ahead of time. Cards array not changed,
+	 * stream is not flushed or closed
+	 *
+	 * @param cards Card objects to write, in order
+	 * @param out   stream to write to
+	 *
+	 * @throws IOException if out can't be written to
+	 */
+	public static void writeCards(Card[] cards, OutputStream out) throws IOException {
+		for (Card card : cards) {
+			out.write(CARD_BYTES[card.encode()]);
+		}
+	}
+
+	/*** HELPER METHODS ***/
+	/**
+	 * Exception message for value and suit that don't make a card
+	 */
+	private static String invalidMessage(int value, char suit) {
+		return "Invalid Data, no card with value " + value + " and suit '" + suit + "' (U+"
+			+ Integer.toHexString(suit).toUpperCase() + ")";
+	}
+
+	/**
+	 * 0 if suit is valid, non-zero otherwise. Any bit above the low 3 means char
+	 * is outside ♠ - ♠ + 7, otherwise low bit is 1 if bitmap has no suit there
+	 */
+	private static int suitMiss(char suit) {
+		int offset = suit - SPADE;
+
+		return (offset & ~7) | (~(VALID_SUIT_BITS >>> (offset & 7)) & 1);
+	}
+
+	/**
+	 * 0 if value is valid, non-zero otherwise (same idea as suitMiss, 4 bits wide)
+	 */
+	private static int valueMiss(int value) {
+		return (value & ~15) | (~(VALID_VALUE_BITS >>> (value & 15)) & 1);
+	}
+
+	/**
+	 * Card number re-ordered by value first (0 is A ♥, 1 is A ♦, ... 51 is K ♠), so
+	 * comparing keys gives natural ordering
+	 *
+	 * @param ordinal card number 0-51
+	 *
+	 * @return sort key 0-51
+	 */
+	private static int rankKey(int ordinal) {
+		return (ordinal % 13) * 4 + ordinal / 13;
+	}
+
+	/**
+	 * Straight insertion sort, fastest option for the handful of cards in a hand
+	 *
+	 * @param hand  Card objects to sort in place
+	 * @param order ordering to sort by
+	 */
+	private static void insertionSort(Card[] hand, Comparator<Card> order) {
+		for (int i = 1; i < hand.length; i++) {
+			Card current = hand[i];
+			int j = i - 1;
+
+			while (j >= 0 && order.compare(hand[j], current) > 0) {
+				hand[j + 1] = hand[j];
+				j--;
+			}
+			hand[j + 1] = current;
+		}
+	}
+
+	/**
+	 * Radix sort with one bucket per card: sets a bit per card, then reads bits
+	 * back in order. Falls back to Arrays.sort if any card is repeated (multi-deck
+	 * shoes), since a bit can only hold one copy
+	 *
+	 * @param hand   card numbers 0-51 to sort in place
+	 * @param from   first index to sort (inclusive)
+	 * @param to     last index to sort (exclusive)
+	 * @param byRank true for natural ordering, false for suit ordering
+	 */
+	private static void bitSort(byte[] hand, int from, int to, boolean byRank) {
+		long seen = 0L;
+
+		for (int i = from; i < to; i++) {
+			long bit = 1L << (byRank ? rankKey(hand[i]) : hand[i]);
+
+			if ((seen & bit) != 0) {
+				if (byRank) {
+					insertionSortByRank(hand, from, to);
+				} else {
+					Arrays.sort(hand, from, to);
+				}
+				return;
+			}
+			seen |= bit;
+		}
+
+		for (int i = from; i < to; i++) {
+			int key = Long.numberOfTrailingZeros(seen);
+
+			hand[i] = (byte) (byRank ? (key % 4) * 13 + key / 4 : key);
+			seen &= seen - 1;
+		}
+	}
+
+	/**
+	 * Insertion sort of card numbers into natural ordering, only used when hand has
+	 * repeated cards
+	 *
+	 * @param hand card numbers 0-51 to sort in place
+	 * @param from first index to sort (inclusive)
+	 * @param to   last index to sort (exclusive)
+	 */
+	private static void insertionSortByRank(byte[] hand, int from, int to) {
+		for (int i = from + 1; i < to; i++) {
+			byte current = hand[i];
+			int key = rankKey(current);
+			int j = i - 1;
+
+			while (j >= from && rankKey(hand[j]) > key) {
+				hand[j + 1] = hand[j];
+				j--;
+			}
+			hand[j + 1] = current;
+		}
+	}
+
+	/**
+	 * Writes full deck grid into builder, one suit per line, each card followed by a
+	 * space. Only used once to build PRINT_CARD
+	 *
+	 * @param builder StringBuilder to write to
+	 */
+	private static void appendGrid(StringBuilder builder) {
+		for (int ordinal = 0; ordinal < DECK_SIZE; ordinal++) {
+			builder.append(CARD_STRINGS[ordinal]).append(' ');
+			if (ordinal % 13 == 12) {
+				builder.append('\n');
+			}
+		}
+	}
+
 }
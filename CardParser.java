@@ -0,0 +1,349 @@
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Reads cards from text without building Strings or other objects, for
+ * ingesting hand histories and requests at high volume
+ *
+ * Card notation: a value then a suit, with at most one space in between
+ * - Values: A, 2-9, 10 or T, J, Q, K (letters in either case)
+ * - Suits: unicode ♥ ♦ ♣ ♠ (the toString() format) or ASCII h, d, c, s (either
+ * case)
+ * - Examples: "A♥", "A ♥", "Ah", "10♦", "Td", "kS"
+ *
+ * Text can be a CharSequence (String, StringBuilder, CharBuffer) or UTF-8 bytes
+ * in an array or a ByteBuffer (ex: a memory-mapped file, read in place), where
+ * the unicode suits are the 3 bytes E2 99 A0-A7. Several cards can follow
+ * each other separated by spaces, tabs or commas (ex: "Ah Kd, 10♣") or with no
+ * separator at all (ex: "AhKd")
+ *
+ * Bytes are only ever read through a ByteBuffer, so a notation fix is made once
+ * for both: byte arrays are wrapped first. The wrapper doesn't escape and the
+ * JIT usually removes it, but code that must not allocate at all should wrap
+ * its array once and reuse the buffer
+ *
+ * Parse methods return card numbers (see {@link Card#encode()}) or -1 for text
+ * that isn't a card, so bad input never costs an exception; only
+ * {@link #parseCard(CharSequence)} throws
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   CardParser
+ * -------------------------------------------------------
+ * - VALUES : byte[]			//static table of value for each ASCII char, 0 if none
+ * - ASCII_SUITS : byte[]		//static table of suit index for each ASCII char, -1 if none
+ * -------------------------------------------------------
+ * + parseOrdinal(text : CharSequence) : int
+ * + parseOrdinal(text : CharSequence, from : int, to : int) : int
+ * + parseOrdinal(text : byte[], from : int, to : int) : int
+ * + parseCard(text : CharSequence) : Card
+ * + parseCards(text : CharSequence, from : int, to : int, out : byte[], outOffset : int) : int
+ * + parseCards(text : byte[], from : int, to : int, out : byte[], outOffset : int) : int
+ * + parseCards(text : ByteBuffer, from : int, to : int, out : byte[], outOffset : int) : int
+ * ~ readCards(text : ByteBuffer, from : int, to : int, out : byte[], outOffset : int) : long
+ * - scan(text : CharSequence, from : int, to : int) : long
+ * - scan(text : ByteBuffer, from : int, to : int) : long
+ * - isSeparator(c : int) : boolean
+ * -------------------------------------------------------
+ */
+
+public class CardParser {
+
+	/*** CONSTANT VARIABLES ***/
+	private static final byte[] VALUES = new byte[128];
+	private static final byte[] ASCII_SUITS = new byte[128];
+	// UTF-8 of U+2660 - U+2667 is E2 99 A0 - E2 99 A7
+	private static final int UTF8_LEAD = 0xE2;
+	private static final int UTF8_SUIT_BLOCK = 0x99;
+	private static final int UTF8_SPADE = 0xA0;
+
+	static {
+		String letters = "A23456789TJQK";
+
+		for (int value = 1; value <= 13; value++) {
+			char letter = letters.charAt(value - 1);
+
+			VALUES[letter] = (byte) value;
+			VALUES[Character.toLowerCase(letter)] = (byte) value;
+		}
+
+		Arrays.fill(ASCII_SUITS, (byte) -1);
+		ASCII_SUITS['h'] = ASCII_SUITS['H'] = 0;
+		ASCII_SUITS['d'] = ASCII_SUITS['D'] = 1;
+		ASCII_SUITS['c'] = ASCII_SUITS['C'] = 2;
+		ASCII_SUITS['s'] = ASCII_SUITS['S'] = 3;
+	}
+
+	/*** PARSING METHODS ***/
+	/**
+	 * Reads text that holds exactly one card
+	 *
+	 * @param text card notation (ex: "A♥", "Ah")
+	 *
+	 * @return card number 0-51, or -1 if text is not exactly one card
+	 */
+	public static int parseOrdinal(CharSequence text) {
+		return parseOrdinal(text, 0, text.length());
+	}
+
+	/**
+	 * Reads range of text that holds exactly one card. Text not changed
+	 *
+	 * @param text card notation
+	 * @param from index of first char
+	 * @param to   index after last char
+	 *
+	 * @return card number 0-51, or -1 if range is not exactly one card
+	 */
+	public static int parseOrdinal(CharSequence text, int from, int to) {
+		long result = scan(text, from, to);
+
+		return result < 0 || (int) (result >>> 8) != to ? -1 : (int) result & 0xFF;
+	}
+
+	/**
+	 * Reads range of UTF-8 bytes that holds exactly one card (through a wrapping
+	 * ByteBuffer). Array not changed
+	 *
+	 * @param text card notation as UTF-8
+	 * @param from index of first byte
+	 * @param to   index after last byte
+	 *
+	 * @return card number 0-51, or -1 if range is not exactly one card
+	 */
+	public static int parseOrdinal(byte[] text, int from, int to) {
+		long result = scan(ByteBuffer.wrap(text), from, to);
+
+		return result < 0 || (int) (result >>> 8) != to ? -1 : (int) result & 0xFF;
+	}
+
+	/**
+	 * Reads text that holds exactly one card
+	 *
+	 * @param text card notation (ex: "A♥", "Ah")
+	 *
+	 * @return shared Card object (see {@link Card#of(int, char)})
+	 *
+	 * @throws IllegalArgumentException if text is not exactly one card
+	 */
+	public static Card parseCard(CharSequence text) {
+		int ordinal = parseOrdinal(text);
+
+		if (ordinal < 0) {
+			throw new IllegalArgumentException("Invalid Data, \"" + text + "\" is not a card");
+		}
+		return Card.decodeUnchecked(ordinal);
+	}
+
+	/**
+	 * Reads every card in range of text into out, one card number per byte. Cards
+	 * may be separated by spaces, tabs or commas. Text not changed
+	 *
+	 * @param text      card notation for any number of cards
+	 * @param from      index of first char
+	 * @param to        index after last char
+	 * @param out       array to write card numbers into, must have room for them
+	 * @param outOffset index in out of first card
+	 *
+	 * @return number of cards read, or -1 if anything in range is not a card or
+	 *         separator (out may be partly written)
+	 */
+	public static int parseCards(CharSequence text, int from, int to, byte[] out, int outOffset) {
+		int count = 0;
+		int i = from;
+
+		while (true) {
+			while (i < to && isSeparator(text.charAt(i))) {
+				i++;
+			}
+			if (i == to) {
+				return count;
+			}
+
+			long result = scan(text, i, to);
+
+			if (result < 0) {
+				return -1;
+			}
+			out[outOffset + count++] = (byte) result;
+			i = (int) (result >>> 8);
+		}
+	}
+
+	/**
+	 * Reads every card in range of UTF-8 bytes into out, one card number per byte
+	 * (see {@link #parseCards(ByteBuffer, int, int, byte[], int)}, which reads it
+	 * wrapped). Cards may be separated by spaces, tabs or commas. Array not changed
+	 *
+	 * @param text      card notation for any number of cards, as UTF-8
+	 * @param from      index of first byte
+	 * @param to        index after last byte
+	 * @param out       array to write card numbers into, must have room for them
+	 * @param outOffset index in out of first card
+	 *
+	 * @return number of cards read, or -1 if anything in range is not a card or
+	 *         separator, or out has no room left (out may be partly written)
+	 */
+	public static int parseCards(byte[] text, int from, int to, byte[] out, int outOffset) {
+		return parseCards(ByteBuffer.wrap(text), from, to, out, outOffset);
+	}
+
+	/**
+	 * Reads every card in range of UTF-8 bytes in a buffer into out, one card
+	 * number per byte, reading by absolute index so a memory-mapped file is parsed
+	 * where it is without copying. Cards may be separated by spaces, tabs or
+	 * commas. Buffer and its position not changed
+	 *
+	 * @param text      card notation for any number of cards, as UTF-8
+	 * @param from      index of first byte
+	 * @param to        index after last byte
+	 * @param out       array to write card numbers into, must have room for them
+	 * @param outOffset index in out of first card
+	 *
+	 * @return number of cards read, or -1 if anything in range is not a card or
+	 *         separator, or out has no room left (out may be partly written)
+	 */
+	public static int parseCards(ByteBuffer text, int from, int to, byte[] out, int outOffset) {
+		long result = readCards(text, from, to, out, outOffset);
+
+		return (int) (result >>> 32) == to ? (int) result : -1;
+	}
+
+	/**
+	 * Reads cards into out from index from until to, or the first byte that isn't
+	 * a card or separator (ex: a line break), or out is full, whichever comes
+	 * first. Lets a caller read a line of cards in the same pass that finds where
+	 * it ends. Buffer and its position not changed
+	 *
+	 * @param text      card notation, as UTF-8
+	 * @param from      index of first byte
+	 * @param to        index after last byte
+	 * @param out       array to write card numbers into
+	 * @param outOffset index in out of first card
+	 *
+	 * @return (index reading stopped at << 32) | number of cards read; stopped at
+	 *         to means the whole range was cards and separators
+	 */
+	static long readCards(ByteBuffer text, int from, int to, byte[] out, int outOffset) {
+		int count = 0;
+		int i = from;
+
+		while (true) {
+			while (i < to && isSeparator(text.get(i))) {
+				i++;
+			}
+			if (i == to || outOffset + count == out.length) {
+				break;
+			}
+
+			long result = scan(text, i, to);
+
+			if (result < 0) {
+				break;
+			}
+			out[outOffset + count++] = (byte) result;
+			i = (int) (result >>> 8);
+		}
+		return ((long) i << 32) | count;
+	}
+
+	/*** HELPER METHODS ***/
+	/**
+	 * Reads one card starting at from. Result is packed so nothing is allocated:
+	 * card number in low 8 bits, index after the card above that
+	 *
+	 * @return (end index << 8) | card number, or -1 if no card starts at from
+	 */
+	private static long scan(CharSequence text, int from, int to) {
+		int i = from;
+		int value;
+		int suit;
+		char c;
+
+		if (i >= to) {
+			return -1;
+		}
+		c = text.charAt(i++);
+		if (c == '1') {
+			// "10" is the only value written with 2 chars
+			if (i >= to || text.charAt(i++) != '0') {
+				return -1;
+			}
+			value = 10;
+		} else if (c >= VALUES.length || (value = VALUES[c]) == 0) {
+			return -1;
+		}
+
+		if (i < to && text.charAt(i) == ' ') {
+			i++;
+		}
+		if (i >= to) {
+			return -1;
+		}
+		c = text.charAt(i++);
+		suit = c < ASCII_SUITS.length ? ASCII_SUITS[c] : Card.suitIndex(c);
+		if (suit < 0) {
+			return -1;
+		}
+		return ((long) i << 8) | (suit * 13 + value - 1);
+	}
+
+	/**
+	 * Reads one card starting at from (see {@link #scan(CharSequence, int, int)}),
+	 * by absolute index into buffer. A unicode suit is 3 bytes, the last one picks
+	 * the char in U+2660 - U+2667
+	 */
+	private static long scan(ByteBuffer text, int from, int to) {
+		int i = from;
+		int value;
+		int suit;
+		int b;
+
+		if (i >= to) {
+			return -1;
+		}
+		b = text.get(i++) & 0xFF;
+		if (b == '1') {
+			// "10" is the only value written with 2 chars
+			if (i >= to || text.get(i++) != '0') {
+				return -1;
+			}
+			value = 10;
+		} else if (b >= VALUES.length || (value = VALUES[b]) == 0) {
+			return -1;
+		}
+
+		if (i < to && text.get(i) == ' ') {
+			i++;
+		}
+		if (i >= to) {
+			return -1;
+		}
+		b = text.get(i++) & 0xFF;
+		if (b < ASCII_SUITS.length) {
+			suit = ASCII_SUITS[b];
+		} else if (b == UTF8_LEAD && i + 2 <= to && (text.get(i) & 0xFF) == UTF8_SUIT_BLOCK) {
+			suit = Card.suitIndex((char) (Card.SPADE + (text.get(i + 1) & 0xFF) - UTF8_SPADE));
+			i += 2;
+		} else {
+			return -1;
+		}
+		if (suit < 0) {
+			return -1;
+		}
+		return ((long) i << 8) | (suit * 13 + value - 1);
+	}
+
+	/**
+	 * Checks if char can separate two cards
+	 */
+	private static boolean isSeparator(int c) {
+		return c == ' ' || c == ',' || c == '\t';
+	}
+
+}
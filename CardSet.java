@@ -0,0 +1,402 @@
+/**
+ * Represents any group of cards from a standard 52-card deck (dead cards,
+ * remaining deck, a hand, etc.) as the bits of a single long
+ *
+ * Class Invariant:
+ * - Each card is stored as one bit, bit number is the card ordinal 0-51 (see
+ * {@link Card#encode()})
+ * - Bits 52-63 are never set
+ * - Cards of one suit take up 13 bits in a row (A is lowest bit, K is highest),
+ * so whole suit can be pulled out with one shift and mask
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   CardSet
+ * -------------------------------------------------------
+ * - bits : long
+ * + FULL_DECK : long		//static constant with all 52 bits set
+ * + SUIT_MASK : int		//static constant with lowest 13 bits set
+ * -------------------------------------------------------
+ * + CardSet()
+ * + CardSet(bits : long)
+ * + CardSet(original : CardSet)
+ * + fullDeck() : CardSet
+ * + bit(card : Card) : long
+ * + bit(value : int, suit : char) : long
+ * + setBits(bits : long) : void
+ * + add(card : Card) : boolean
+ * + add(ordinal : int) : boolean
+ * + remove(card : Card) : boolean
+ * + remove(ordinal : int) : boolean
+ * + addAll(other : CardSet) : void
+ * + removeAll(other : CardSet) : void
+ * + retainAll(other : CardSet) : void
+ * + clear() : void
+ * + getBits() : long
+ * + contains(card : Card) : boolean
+ * + contains(ordinal : int) : boolean
+ * + containsAny(other : CardSet) : boolean
+ * + size() : int
+ * + isEmpty() : boolean
+ * + getSuitMask(suit : char) : int
+ * + getSuitMask(suit : Suit) : int
+ * + getSuitCounts() : int[]
+ * + getSuitCounts(counts : int[]) : int[]
+ * + toArray() : Card[]
+ * + toString() : String
+ * + equals(other : Object) : boolean
+ * + hashCode() : int
+ * -------------------------------------------------------
+ */
+
+public class CardSet {
+
+	/*** CONSTANT VARIABLES ***/
+	public static final long FULL_DECK = (1L << Card.DECK_SIZE) - 1;
+	public static final int SUIT_MASK = (1 << 13) - 1;
+
+	/*** INSTANCE VARIABLES ***/
+	private long bits;
+
+	/*** CONSTRUCTOR METHODS ***/
+	/**
+	 * Default constructor, builds empty set
+	 */
+	CardSet() {
+		this.bits = 0L;
+	}
+
+	/**
+	 * Full constructor, builds set from raw bits (one bit per card ordinal). Bits
+	 * 52-63 are ignored
+	 *
+	 * @param bits card ordinal bits
+	 */
+	CardSet(long bits) {
+		this.setBits(bits);
+	}
+
+	/**
+	 * Copy constructor, builds set with same cards as original. Original not changed
+	 *
+	 * @param original CardSet to be copied
+	 */
+	CardSet(CardSet original) {
+		this.bits = original.bits;
+	}
+
+	/**
+	 * Builds set holding all 52 cards
+	 *
+	 * @return new CardSet with every card
+	 */
+	public static CardSet fullDeck() {
+		return new CardSet(FULL_DECK);
+	}
+
+	/*** STATIC HELPER METHODS ***/
+	/**
+	 * Bit for single card, to build raw sets with bitwise operators
+	 *
+	 * @param card Card to convert, not changed
+	 *
+	 * @return long with only bit for card set
+	 */
+	public static long bit(Card card) {
+		return 1L << card.encode();
+	}
+
+	/**
+	 * Bit for single card, to build raw sets with bitwise operators
+	 *
+	 * @param value numerical value of card (1-13)
+	 * @param suit  one of four suit values
+	 *
+	 * @return long with only bit for card set, or 0 if value/suit not valid
+	 */
+	public static long bit(int value, char suit) {
+		int ordinal = Card.encode(value, suit);
+
+		return ordinal < 0 ? 0L : 1L << ordinal;
+	}
+
+	/*** MUTATOR METHODS (SETTERS) ***/
+	/**
+	 * Replaces all cards in set with raw bits. Bits 52-63 are ignored
+	 *
+	 * @param bits card ordinal bits
+	 */
+	public void setBits(long bits) {
+		this.bits = bits & FULL_DECK;
+	}
+
+	/**
+	 * Adds card to set
+	 *
+	 * @param card Card to add, not changed
+	 *
+	 * @return true if card was added, false if it was already in set
+	 */
+	public boolean add(Card card) {
+		return this.add(card.encode());
+	}
+
+	/**
+	 * Adds card to set
+	 *
+	 * @param ordinal card number 0-51
+	 *
+	 * @return true if card was added, false if it was already in set or ordinal not
+	 *         valid
+	 */
+	public boolean add(int ordinal) {
+		long old = bits;
+
+		if (ordinal >= 0 && ordinal < Card.DECK_SIZE) {
+			bits |= 1L << ordinal;
+		}
+
+		return bits != old;
+	}
+
+	/**
+	 * Removes card from set
+	 *
+	 * @param card Card to remove, not changed
+	 *
+	 * @return true if card was removed, false if it was not in set
+	 */
+	public boolean remove(Card card) {
+		return this.remove(card.encode());
+	}
+
+	/**
+	 * Removes card from set
+	 *
+	 * @param ordinal card number 0-51
+	 *
+	 * @return true if card was removed, false if it was not in set or ordinal not
+	 *         valid
+	 */
+	public boolean remove(int ordinal) {
+		long old = bits;
+
+		if (ordinal >= 0 && ordinal < Card.DECK_SIZE) {
+			bits &= ~(1L << ordinal);
+		}
+
+		return bits != old;
+	}
+
+	/**
+	 * Adds every card of other set to this set (union). Other set not changed
+	 *
+	 * @param other CardSet to add
+	 */
+	public void addAll(CardSet other) {
+		bits |= other.bits;
+	}
+
+	/**
+	 * Removes every card of other set from this set (difference). Other set not
+	 * changed
+	 *
+	 * @param other CardSet to remove
+	 */
+	public void removeAll(CardSet other) {
+		bits &= ~other.bits;
+	}
+
+	/**
+	 * Keeps only cards also in other set (intersection). Other set not changed
+	 *
+	 * @param other CardSet to keep
+	 */
+	public void retainAll(CardSet other) {
+		bits &= other.bits;
+	}
+
+	/**
+	 * Removes all cards from set
+	 */
+	public void clear() {
+		bits = 0L;
+	}
+
+	/*** ACCESSOR METHODS (GETTERS) ***/
+	/**
+	 * Access raw bits of set, one bit per card ordinal
+	 *
+	 * @return card ordinal bits
+	 */
+	public long getBits() {
+		return bits;
+	}
+
+	/**
+	 * Checks if card is in set
+	 *
+	 * @param card Card to look for, not changed
+	 *
+	 * @return true if card is in set, false otherwise
+	 */
+	public boolean contains(Card card) {
+		return this.contains(card.encode());
+	}
+
+	/**
+	 * Checks if card is in set
+	 *
+	 * @param ordinal card number 0-51
+	 *
+	 * @return true if card is in set, false otherwise (including invalid ordinal)
+	 */
+	public boolean contains(int ordinal) {
+		return ordinal >= 0 && ordinal < Card.DECK_SIZE && (bits & (1L << ordinal)) != 0;
+	}
+
+	/**
+	 * Checks if sets share at least one card
+	 *
+	 * @param other CardSet to compare, not changed
+	 *
+	 * @return true if any card is in both sets, false otherwise
+	 */
+	public boolean containsAny(CardSet other) {
+		return (bits & other.bits) != 0;
+	}
+
+	/**
+	 * Access number of cards in set
+	 *
+	 * @return count of cards 0-52
+	 */
+	public int size() {
+		return Long.bitCount(bits);
+	}
+
+	/**
+	 * Checks if set has no cards
+	 *
+	 * @return true if set is empty, false otherwise
+	 */
+	public boolean isEmpty() {
+		return bits == 0L;
+	}
+
+	/**
+	 * Access cards of one suit as 13 bits, bit 0 is A and bit 12 is K
+	 *
+	 * @param suit one of four suit values
+	 *
+	 * @return 13-bit mask of values held in suit, or 0 if suit not valid
+	 */
+	public int getSuitMask(char suit) {
+		int index = Card.suitIndex(suit);
+
+		if (index < 0) {
+			return 0;
+		}
+
+		return (int) (bits >>> (index * 13)) & SUIT_MASK;
+	}
+
+	/**
+	 * Access cards of one suit as 13 bits, bit 0 is A and bit 12 is K
+	 *
+	 * @param suit suit to read
+	 *
+	 * @return 13-bit mask of values held in suit
+	 */
+	public int getSuitMask(Suit suit) {
+		return (int) (bits >>> (suit.getIndex() * 13)) & SUIT_MASK;
+	}
+
+	/**
+	 * Counts cards held in each suit (ex: for spotting flushes)
+	 *
+	 * @return new array of 4 counts, indexed by {@link Suit#getIndex()}
+	 */
+	public int[] getSuitCounts() {
+		return this.getSuitCounts(new int[Suit.COUNT]);
+	}
+
+	/**
+	 * Counts cards held in each suit into caller's array, so hot loops (ex: flush
+	 * checks over many hands) can reuse one array and allocate nothing
+	 *
+	 * @param counts array of at least 4 to fill, indexed by {@link Suit#getIndex()}
+	 *
+	 * @return counts, for chaining
+	 */
+	public int[] getSuitCounts(int[] counts) {
+		for (int i = 0; i < Suit.COUNT; i++) {
+			counts[i] = Integer.bitCount((int) (bits >>> (i * 13)) & SUIT_MASK);
+		}
+		return counts;
+	}
+
+	/**
+	 * Builds array of cards in set, in ordinal order (see {@link Card#encode()})
+	 *
+	 * @return new Card array with shared Card objects
+	 */
+	public Card[] toArray() {
+		Card[] cards = new Card[this.size()];
+		long remaining = bits;
+
+		for (int i = 0; remaining != 0; i++) {
+			cards[i] = Card.decodeUnchecked(Long.numberOfTrailingZeros(remaining));
+			remaining &= remaining - 1;
+		}
+
+		return cards;
+	}
+
+	/*** OTHER REQUIRED METHODS ***/
+	/**
+	 * String of all cards in set, in ordinal order, separated by a space
+	 *
+	 * @return String containing each card (see {@link Card#toString()})
+	 */
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		long remaining = bits;
+
+		while (remaining != 0) {
+			if (builder.length() > 0) {
+				builder.append(' ');
+			}
+			builder.append(Card.decodeUnchecked(Long.numberOfTrailingZeros(remaining)));
+			remaining &= remaining - 1;
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Checking for equality of CardSet objects, both hold exactly the same cards
+	 *
+	 * @param other object to compare for equality
+	 *
+	 * @return true if other is a CardSet with exactly the same cards
+	 */
+	public boolean equals(Object other) {
+		return other instanceof CardSet && ((CardSet) other).bits == this.bits;
+	}
+
+	/**
+	 * Hash code based on cards held, matches {@link #equals(Object)}
+	 *
+	 * @return hash of card bits
+	 */
+	public int hashCode() {
+		return Long.hashCode(bits);
+	}
+
+}
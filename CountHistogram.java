@@ -0,0 +1,244 @@
+/**
+ * Results of a blackjack simulation, bucketed by count at the start of each
+ * round: how many hands were played at each count and what they won or lost,
+ * so expected value (EV) per count can be read off directly. Counts are true
+ * counts for balanced counting systems and running counts for unbalanced ones
+ * (see {@link CountingSystem#isBalanced()})
+ *
+ * Class Invariant:
+ * - One bucket per whole count from minCount to maxCount, counts outside that
+ * range go in the end buckets
+ * - runningCount tells which kind of count the buckets hold, and never changes
+ * - A hand is one seat's starting bet of 1 unit; returns are in units, so a
+ * double or split can win or lose more than 1 unit per hand
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   CountHistogram
+ * -------------------------------------------------------
+ * + MIN_TRUE_COUNT : int	//static constant with value -10
+ * + MAX_TRUE_COUNT : int	//static constant with value 10
+ * + MIN_RUNNING_COUNT_OFFSET : int	//static constant with value -10
+ * + MAX_RUNNING_COUNT : int	//static constant with value 10
+ * - minCount : int
+ * - maxCount : int
+ * - runningCount : boolean
+ * - hands : long[]
+ * - returns : double[]
+ * -------------------------------------------------------
+ * ~ CountHistogram()
+ * ~ CountHistogram(minCount : int, maxCount : int, runningCount : boolean)
+ * ~ record(count : int, handCount : int, result : double) : void
+ * ~ add(other : CountHistogram) : void
+ * + getHands(count : int) : long
+ * + getExpectedValue(count : int) : double
+ * + getMinCount() : int
+ * + getMaxCount() : int
+ * + isRunningCount() : boolean
+ * + getTotalHands() : long
+ * + getOverallExpectedValue() : double
+ * + toString() : String
+ * - bucket(count : int) : int
+ * -------------------------------------------------------
+ */
+
+public class CountHistogram {
+
+	/*** CONSTANT VARIABLES ***/
+	public static final int MIN_TRUE_COUNT = -10;
+	public static final int MAX_TRUE_COUNT = 10;
+	// running count buckets start below the system's initial running count
+	// (which depends on deck count) but top out at a fixed count
+	public static final int MIN_RUNNING_COUNT_OFFSET = -10;
+	public static final int MAX_RUNNING_COUNT = 10;
+
+	/*** INSTANCE VARIABLES ***/
+	private final int minCount;
+	private final int maxCount;
+	private final boolean runningCount;
+	private final long[] hands;
+	private final double[] returns;
+
+	/*** CONSTRUCTOR METHODS ***/
+	/**
+	 * Default constructor, builds empty histogram of true counts MIN_TRUE_COUNT to
+	 * MAX_TRUE_COUNT
+	 */
+	CountHistogram() {
+		this(MIN_TRUE_COUNT, MAX_TRUE_COUNT, false);
+	}
+
+	/**
+	 * Full constructor, builds empty histogram with given count range
+	 *
+	 * @param minCount     lowest bucket, lower counts are added to it
+	 * @param maxCount     highest bucket, higher counts are added to it
+	 * @param runningCount true if buckets hold running counts, false for true
+	 *                     counts
+	 *
+	 * @throws IllegalArgumentException if minCount is more than maxCount
+	 */
+	CountHistogram(int minCount, int maxCount, boolean runningCount) {
+		if (minCount > maxCount) {
+			throw new IllegalArgumentException("Invalid Data, count range " + minCount + " to " + maxCount);
+		}
+
+		this.minCount = minCount;
+		this.maxCount = maxCount;
+		this.runningCount = runningCount;
+		this.hands = new long[maxCount - minCount + 1];
+		this.returns = new double[hands.length];
+	}
+
+	/*** MUTATOR METHODS ***/
+	/**
+	 * Counts one round
+	 *
+	 * @param count     count at start of round
+	 * @param handCount number of seats that played
+	 * @param result    total units won (negative if lost) by all seats
+	 */
+	void record(int count, int handCount, double result) {
+		int bucket = this.bucket(count);
+
+		hands[bucket] += handCount;
+		returns[bucket] += result;
+	}
+
+	/**
+	 * Adds counts from other histogram (used to merge results from parallel
+	 * workers). Other object not changed
+	 *
+	 * @param other histogram to add in
+	 *
+	 * @throws IllegalArgumentException if other has different buckets
+	 */
+	void add(CountHistogram other) {
+		if (other.minCount != minCount || other.maxCount != maxCount || other.runningCount != runningCount) {
+			throw new IllegalArgumentException("Invalid Data, histograms have different buckets");
+		}
+		for (int i = 0; i < hands.length; i++) {
+			hands[i] += other.hands[i];
+			returns[i] += other.returns[i];
+		}
+	}
+
+	/*** ACCESSOR METHODS (GETTERS) ***/
+	/**
+	 * Access number of hands played at count
+	 *
+	 * @param count count (clamped to getMinCount() - getMaxCount())
+	 *
+	 * @return hand count
+	 */
+	public long getHands(int count) {
+		return hands[this.bucket(count)];
+	}
+
+	/**
+	 * Access average units won per hand at count
+	 *
+	 * @param count count (clamped to getMinCount() - getMaxCount())
+	 *
+	 * @return EV per 1 unit bet, 0 if no hands played at that count
+	 */
+	public double getExpectedValue(int count) {
+		int bucket = this.bucket(count);
+
+		return hands[bucket] == 0 ? 0 : returns[bucket] / hands[bucket];
+	}
+
+	/**
+	 * Access lowest bucket
+	 *
+	 * @return lowest count kept separately
+	 */
+	public int getMinCount() {
+		return minCount;
+	}
+
+	/**
+	 * Access highest bucket
+	 *
+	 * @return highest count kept separately
+	 */
+	public int getMaxCount() {
+		return maxCount;
+	}
+
+	/**
+	 * Checks which kind of count buckets hold
+	 *
+	 * @return true for running counts (unbalanced system), false for true counts
+	 */
+	public boolean isRunningCount() {
+		return runningCount;
+	}
+
+	/**
+	 * Access number of hands played at every count
+	 *
+	 * @return total hand count
+	 */
+	public long getTotalHands() {
+		long total = 0;
+
+		for (long count : hands) {
+			total += count;
+		}
+		return total;
+	}
+
+	/**
+	 * Access average units won per hand over whole simulation (negative of house
+	 * edge for flat betting)
+	 *
+	 * @return EV per 1 unit bet, 0 if no hands played
+	 */
+	public double getOverallExpectedValue() {
+		double total = 0;
+
+		for (double result : returns) {
+			total += result;
+		}
+		return getTotalHands() == 0 ? 0 : total / getTotalHands();
+	}
+
+	/*** OTHER REQUIRED METHODS ***/
+	/**
+	 * String of hands and EV for each count that had hands played, one line per
+	 * count (TC for true count, RC for running count), plus overall line. No
+	 * newline character at end of String
+	 *
+	 * @return String containing histogram table
+	 */
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		String label = runningCount ? "RC" : "TC";
+
+		for (int count = minCount; count <= maxCount; count++) {
+			if (getHands(count) > 0) {
+				builder.append(String.format("%s %+3d: %12d hands  EV %+7.3f%%%n", label, count, getHands(count),
+					100 * getExpectedValue(count)));
+			}
+		}
+		builder.append(String.format("Overall: %11d hands  EV %+7.3f%%", getTotalHands(),
+			100 * getOverallExpectedValue()));
+
+		return builder.toString();
+	}
+
+	/*** HELPER METHODS ***/
+	/**
+	 * Array index for count, clamped to end buckets
+	 */
+	private int bucket(int count) {
+		return Math.max(minCount, Math.min(maxCount, count)) - minCount;
+	}
+
+}
@@ -0,0 +1,148 @@
+/**
+ * Represents a blackjack card-counting system: a tag (count change) for every
+ * card value, added to the running count as each card is seen
+ *
+ * Class Invariant:
+ * - tags has one entry per Card value 1-13 (index 0 unused), J/Q/K always have
+ * the same tag as 10
+ * - Tags never change after construction, so one system can be shared by any
+ * number of threads
+ * - Balanced systems (full deck counts to 0) start the running count at 0 and
+ * are read as a true count; unbalanced systems (ex: KO) start below 0 (see
+ * {@link #getInitialRunningCount(int)}) and are read as the running count itself
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   CountingSystem
+ * -------------------------------------------------------
+ * - name : String
+ * - tags : int[]
+ * + HI_LO : CountingSystem		//2-6 +1, 7-9 0, 10-A -1
+ * + KO : CountingSystem		//2-7 +1, 8-9 0, 10-A -1 (unbalanced)
+ * + HI_OPT_I : CountingSystem	//3-6 +1, 2 7-9 A 0, 10 -1
+ * -------------------------------------------------------
+ * + CountingSystem(name : String, tagsByPoints : int[])
+ * + getTag(value : int) : int
+ * + getName() : String
+ * + isBalanced() : boolean
+ * + getInitialRunningCount(deckCount : int) : int
+ * + toString() : String
+ * - getDeckTotal() : int
+ * -------------------------------------------------------
+ */
+
+public class CountingSystem {
+
+	/*** CONSTANT VARIABLES ***/
+	//                                                            A  2  3  4  5  6  7  8  9  10
+	public static final CountingSystem HI_LO = new CountingSystem("Hi-Lo", new int[] { -1, 1, 1, 1, 1, 1, 0, 0, 0, -1 });
+	public static final CountingSystem KO = new CountingSystem("KO", new int[] { -1, 1, 1, 1, 1, 1, 1, 0, 0, -1 });
+	public static final CountingSystem HI_OPT_I = new CountingSystem("Hi-Opt I",
+		new int[] { 0, 0, 1, 1, 1, 1, 0, 0, 0, -1 });
+
+	/*** INSTANCE VARIABLES ***/
+	private final String name;
+	private final int[] tags;
+
+	/*** CONSTRUCTOR METHODS ***/
+	/**
+	 * Full constructor, builds counting system from one tag per blackjack point
+	 * value
+	 *
+	 * @param name         name of system (ex: Hi-Lo)
+	 * @param tagsByPoints 10 tags in order A, 2, 3, ..., 9, 10 (10 is also used
+	 *                     for J/Q/K), not changed
+	 *
+	 * @throws IllegalArgumentException if name is null or there aren't 10 tags
+	 */
+	CountingSystem(String name, int[] tagsByPoints) {
+		if (name == null || tagsByPoints == null || tagsByPoints.length != 10) {
+			throw new IllegalArgumentException("Invalid Data, counting system needs a name and 10 tags");
+		}
+
+		this.name = name;
+		this.tags = new int[14];
+		for (int value = 1; value <= 13; value++) {
+			tags[value] = tagsByPoints[BlackjackScorer.getPoints(value) - 1];
+		}
+	}
+
+	/*** ACCESSOR METHODS (GETTERS) ***/
+	/**
+	 * Access count change for card value
+	 *
+	 * @param value numerical value of card (1-13)
+	 *
+	 * @return tag to add to running count
+	 */
+	public int getTag(int value) {
+		return tags[value];
+	}
+
+	/**
+	 * Access name of system
+	 *
+	 * @return name (ex: Hi-Lo)
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Checks if a full deck counts to 0, so running count can be turned into a
+	 * true count by dividing by decks left
+	 *
+	 * @return true if tags of all 52 cards add up to 0, false otherwise
+	 */
+	public boolean isBalanced() {
+		return this.getDeckTotal() == 0;
+	}
+
+	/**
+	 * Access running count at start of a fresh shoe. Balanced systems start at 0.
+	 * Unbalanced systems start at -(deck total) * (decks - 1), so the count ends
+	 * the shoe at the deck total and the same running count means about the same
+	 * edge whatever the number of decks (ex: KO starts a 6 deck shoe at -20)
+	 *
+	 * @param deckCount number of decks in shoe (1 or more)
+	 *
+	 * @return initial running count
+	 */
+	public int getInitialRunningCount(int deckCount) {
+		return -this.getDeckTotal() * (deckCount - 1);
+	}
+
+	/*** OTHER REQUIRED METHODS ***/
+	/**
+	 * String of system name and tags, no newline character at end of String
+	 *
+	 * @return String containing name and tag for A-10
+	 */
+	public String toString() {
+		StringBuilder builder = new StringBuilder(name).append(':');
+
+		for (int value = 1; value <= 10; value++) {
+			builder.append(' ').append(Card.decode(value - 1).getPrintValue()).append('=').append(tags[value]);
+		}
+		return builder.toString();
+	}
+
+	/*** HELPER METHODS ***/
+	/**
+	 * Sum of tags of all 52 cards in a deck, 0 for a balanced system
+	 */
+	private int getDeckTotal() {
+		int total = 0;
+
+		for (int value = 1; value <= 13; value++) {
+			total += 4 * tags[value];
+		}
+		return total;
+	}
+
+}
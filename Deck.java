@@ -0,0 +1,242 @@
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents a standard 52-card deck that cards are dealt from, top first
+ *
+ * Class Invariant:
+ * - Cards are stored packed as card numbers 0-51 (see {@link Card#encode()}),
+ * one byte per card, never as Card objects
+ * - top is index of next card to deal, cards before top have already been dealt
+ * - top is always between 0 and 52 (inclusive), 52 means deck is empty
+ * - Dealing never builds new objects, dealt Card objects are the shared ones
+ * from {@link Card#decode(int)}
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   Deck
+ * -------------------------------------------------------
+ * - cards : byte[]
+ * - top : int
+ * -------------------------------------------------------
+ * + Deck()
+ * + Deck(original : Deck)
+ * + reset() : void
+ * + shuffle(rng : RandomGenerator) : void
+ * + shuffle(rng : RandomGenerator, count : int) : void
+ * ~ shuffle(cards : byte[], from : int, to : int, count : int, rng : RandomGenerator) : void
+ * + deal() : Card
+ * + dealOrdinal() : int
+ * + dealN(into : Card[], offset : int, count : int) : int
+ * + dealN(into : byte[], offset : int, count : int) : int
+ * + remaining() : int
+ * + isEmpty() : boolean
+ * + toString() : String
+ * -------------------------------------------------------
+ */
+
+public class Deck {
+
+	/*** INSTANCE VARIABLES ***/
+	private final byte[] cards;
+	private int top;
+
+	/*** CONSTRUCTOR METHODS ***/
+	/**
+	 * Default constructor, builds full deck in deck order (♥ ♦ ♣ ♠, A through K
+	 * within each suit)
+	 */
+	Deck() {
+		this.cards = new byte[Card.DECK_SIZE];
+		this.reset();
+	}
+
+	/**
+	 * Copy constructor, builds deck with same cards in same order and same cards
+	 * already dealt. Original not changed
+	 *
+	 * @param original Deck object to be copied
+	 */
+	Deck(Deck original) {
+		this.cards = original.cards.clone();
+		this.top = original.top;
+	}
+
+	/*** MUTATOR METHODS ***/
+	/**
+	 * Puts all cards back in deck order, reusing same array
+	 */
+	public void reset() {
+		for (int i = 0; i < cards.length; i++) {
+			cards[i] = (byte) i;
+		}
+		top = 0;
+	}
+
+	/**
+	 * Shuffles cards not yet dealt, in place. Any RandomGenerator works (ex:
+	 * SplittableRandom, or RandomGeneratorFactory.of("L64X128MixRandom")); give it a
+	 * seed for a repeatable shuffle
+	 *
+	 * @param rng source of randomness
+	 */
+	public void shuffle(RandomGenerator rng) {
+		shuffle(cards, top, cards.length, cards.length - top, rng);
+	}
+
+	/**
+	 * Shuffles only the next count cards to be dealt, in place. Each of those
+	 * positions gets a uniformly random card from all cards not yet dealt, so when
+	 * only count cards will be dealt the result is as good as a full shuffle, for
+	 * less work
+	 *
+	 * @param rng   source of randomness
+	 * @param count number of cards from top to randomize
+	 */
+	public void shuffle(RandomGenerator rng, int count) {
+		shuffle(cards, top, cards.length, Math.min(count, cards.length - top), rng);
+	}
+
+	/**
+	 * In-place Fisher-Yates shuffle over packed cards, stopping after first count
+	 * positions are filled. Shared with {@link Shoe}
+	 *
+	 * @param cards card numbers to shuffle
+	 * @param from  first index to shuffle (inclusive)
+	 * @param to    last index to shuffle (exclusive)
+	 * @param count number of positions from from to randomize, at most to - from
+	 * @param rng   source of randomness
+	 */
+	static void shuffle(byte[] cards, int from, int to, int count, RandomGenerator rng) {
+		int end = Math.min(from + count, to - 1);
+
+		for (int i = from; i < end; i++) {
+			int j = i + rng.nextInt(to - i);
+			byte swap = cards[i];
+
+			cards[i] = cards[j];
+			cards[j] = swap;
+		}
+	}
+
+	/**
+	 * Deals top card of deck
+	 *
+	 * @return shared Card object for top card, or null if deck is empty
+	 */
+	public Card deal() {
+		if (top >= cards.length) {
+			return null;
+		}
+		return Card.decodeUnchecked(cards[top++]);
+	}
+
+	/**
+	 * Deals top card of deck as card number (see {@link Card#encode()})
+	 *
+	 * @return card number 0-51, or -1 if deck is empty
+	 */
+	public int dealOrdinal() {
+		if (top >= cards.length) {
+			return -1;
+		}
+		return cards[top++];
+	}
+
+	/**
+	 * Deals up to count cards from top of deck into given array. Stops early if
+	 * deck runs out
+	 *
+	 * @param into   array to fill with shared Card objects
+	 * @param offset first index of into to fill
+	 * @param count  number of cards to deal
+	 *
+	 * @return number of cards actually dealt
+	 *
+	 * @throws IllegalArgumentException if count is negative
+	 */
+	public int dealN(Card[] into, int offset, int count) {
+		int dealt;
+
+		if (count < 0) {
+			throw new IllegalArgumentException("Invalid Data, can't deal " + count + " cards");
+		}
+		dealt = Math.min(count, cards.length - top);
+
+		for (int i = 0; i < dealt; i++) {
+			into[offset + i] = Card.decodeUnchecked(cards[top + i]);
+		}
+		top += dealt;
+
+		return dealt;
+	}
+
+	/**
+	 * Deals up to count cards from top of deck into given array as card numbers
+	 * (see {@link Card#encode()}). Stops early if deck runs out
+	 *
+	 * @param into   array to fill with card numbers 0-51
+	 * @param offset first index of into to fill
+	 * @param count  number of cards to deal
+	 *
+	 * @return number of cards actually dealt
+	 *
+	 * @throws IllegalArgumentException if count is negative
+	 */
+	public int dealN(byte[] into, int offset, int count) {
+		int dealt;
+
+		if (count < 0) {
+			throw new IllegalArgumentException("Invalid Data, can't deal " + count + " cards");
+		}
+		dealt = Math.min(count, cards.length - top);
+
+		System.arraycopy(cards, top, into, offset, dealt);
+		top += dealt;
+
+		return dealt;
+	}
+
+	/*** ACCESSOR METHODS (GETTERS) ***/
+	/**
+	 * Access number of cards not yet dealt
+	 *
+	 * @return count of cards left, 0-52
+	 */
+	public int remaining() {
+		return cards.length - top;
+	}
+
+	/**
+	 * Checks if every card has been dealt
+	 *
+	 * @return true if no cards left, false otherwise
+	 */
+	public boolean isEmpty() {
+		return top >= cards.length;
+	}
+
+	/*** OTHER REQUIRED METHODS ***/
+	/**
+	 * String of cards not yet dealt, top card first, separated by a space
+	 *
+	 * @return String containing each card left (see {@link Card#toString()})
+	 */
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+
+		for (int i = top; i < cards.length; i++) {
+			if (i > top) {
+				builder.append(' ');
+			}
+			builder.append(Card.decodeUnchecked(cards[i]));
+		}
+
+		return builder.toString();
+	}
+
+}
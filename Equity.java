@@ -0,0 +1,204 @@
+/**
+ * Results of an equity calculation for a Texas Hold'em pot: how often each
+ * player wins outright, ties, and what share of the pot they win on average
+ *
+ * Class Invariant:
+ * - wins, ties and shares all have one entry per player, in the order players
+ * were given to the calculator
+ * - A runout counts as a win only for the single best hand; if several hands
+ * tie for best, each of them gets a tie and 1/(number tied) of the pot
+ * - Sum of all shares equals runouts, since every runout awards the whole pot
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   Equity
+ * -------------------------------------------------------
+ * - runouts : long
+ * - wins : long[]
+ * - ties : long[]
+ * - shares : double[]
+ * -------------------------------------------------------
+ * ~ Equity(playerCount : int)
+ * ~ record(strengths : int[]) : void
+ * ~ add(other : Equity) : void
+ * + getPlayerCount() : int
+ * + getRunouts() : long
+ * + getWins(player : int) : long
+ * + getTies(player : int) : long
+ * + getWinProbability(player : int) : double
+ * + getTieProbability(player : int) : double
+ * + getEquity(player : int) : double
+ * + toString() : String
+ * -------------------------------------------------------
+ */
+
+public class Equity {
+
+	/*** INSTANCE VARIABLES ***/
+	private long runouts;
+	private final long[] wins;
+	private final long[] ties;
+	private final double[] shares;
+
+	/*** CONSTRUCTOR METHODS ***/
+	/**
+	 * Builds empty results (no runouts yet) for given number of players
+	 *
+	 * @param playerCount number of players in pot
+	 */
+	Equity(int playerCount) {
+		this.wins = new long[playerCount];
+		this.ties = new long[playerCount];
+		this.shares = new double[playerCount];
+	}
+
+	/*** MUTATOR METHODS ***/
+	/**
+	 * Counts one runout, giving pot to best hand(s). Array not changed
+	 *
+	 * @param strengths hand strength of each player (see
+	 *                  {@link PokerHandEvaluator}), higher is better
+	 */
+	void record(int[] strengths) {
+		int best = 0;
+		int bestCount = 0;
+
+		for (int strength : strengths) {
+			if (strength > best) {
+				best = strength;
+				bestCount = 1;
+			} else if (strength == best) {
+				bestCount++;
+			}
+		}
+
+		for (int player = 0; player < strengths.length; player++) {
+			if (strengths[player] == best) {
+				if (bestCount == 1) {
+					wins[player]++;
+				} else {
+					ties[player]++;
+				}
+				shares[player] += 1.0 / bestCount;
+			}
+		}
+		runouts++;
+	}
+
+	/**
+	 * Adds counts from other results for same players (used to merge results
+	 * from parallel workers). Other object not changed
+	 *
+	 * @param other results to add in
+	 */
+	void add(Equity other) {
+		runouts += other.runouts;
+		for (int player = 0; player < wins.length; player++) {
+			wins[player] += other.wins[player];
+			ties[player] += other.ties[player];
+			shares[player] += other.shares[player];
+		}
+	}
+
+	/*** ACCESSOR METHODS (GETTERS) ***/
+	/**
+	 * Access number of players in pot
+	 *
+	 * @return player count
+	 */
+	public int getPlayerCount() {
+		return wins.length;
+	}
+
+	/**
+	 * Access number of boards counted (simulated or enumerated)
+	 *
+	 * @return runout count
+	 */
+	public long getRunouts() {
+		return runouts;
+	}
+
+	/**
+	 * Access number of runouts player won outright
+	 *
+	 * @param player index of player
+	 *
+	 * @return win count
+	 */
+	public long getWins(int player) {
+		return wins[player];
+	}
+
+	/**
+	 * Access number of runouts player tied for best hand
+	 *
+	 * @param player index of player
+	 *
+	 * @return tie count
+	 */
+	public long getTies(int player) {
+		return ties[player];
+	}
+
+	/**
+	 * Access chance player wins outright
+	 *
+	 * @param player index of player
+	 *
+	 * @return probability 0-1
+	 */
+	public double getWinProbability(int player) {
+		return runouts == 0 ? 0 : (double) wins[player] / runouts;
+	}
+
+	/**
+	 * Access chance player ties for best hand
+	 *
+	 * @param player index of player
+	 *
+	 * @return probability 0-1
+	 */
+	public double getTieProbability(int player) {
+		return runouts == 0 ? 0 : (double) ties[player] / runouts;
+	}
+
+	/**
+	 * Access average share of pot player wins, counting split pots
+	 *
+	 * @param player index of player
+	 *
+	 * @return equity 0-1
+	 */
+	public double getEquity(int player) {
+		return runouts == 0 ? 0 : shares[player] / runouts;
+	}
+
+	/*** OTHER REQUIRED METHODS ***/
+	/**
+	 * String of win/tie/equity percentages, one line per player, no newline
+	 * character at end of String
+	 *
+	 * @return String containing results for each player
+	 */
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+
+		for (int player = 0; player < wins.length; player++) {
+			if (player > 0) {
+				builder.append('\n');
+			}
+			builder.append(String.format("Player %d: win %6.2f%%  tie %6.2f%%  equity %6.2f%%", player + 1,
+				100 * getWinProbability(player), 100 * getTieProbability(player), 100 * getEquity(player)));
+		}
+		builder.append(String.format("%n(%d runouts)", runouts));
+
+		return builder.toString();
+	}
+
+}
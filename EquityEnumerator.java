@@ -0,0 +1,208 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Calculates exact Texas Hold'em equity for each player's hole cards and a
+ * partial board, by ranking every possible way the rest of the board can come
+ * out (best for turn/river spots, or any spot where exact numbers matter more
+ * than speed; see {@link MonteCarloEquity} for estimates)
+ *
+ * Every runout is numbered with the combinatorial number system, so a range of
+ * runout numbers can be turned straight into its first combination of cards and
+ * walked from there. Ranges are split across a ForkJoinPool with no recursion
+ * over cards and no lists built
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   EquityEnumerator
+ * -------------------------------------------------------
+ * - RUNOUTS_PER_TASK : long	//static constant, runouts before task is split
+ * - BINOMIALS : long[][]		//static table of n choose k, n 0-52, k 0-5
+ * -------------------------------------------------------
+ * + calculate(holeCards : Card[][], board : Card[]) : Equity
+ * + calculate(holeCards : Card[][], board : Card[], pool : ForkJoinPool) : Equity
+ * + choose(n : int, k : int) : long
+ * ~ unrank(index : long, combination : int[]) : void
+ * ~ nextCombination(combination : int[]) : void
+ * -------------------------------------------------------
+ */
+
+public class EquityEnumerator {
+
+	/*** CONSTANT VARIABLES ***/
+	private static final long RUNOUTS_PER_TASK = 1 << 14;
+	private static final long[][] BINOMIALS = new long[Card.DECK_SIZE + 1][MonteCarloEquity.BOARD_SIZE + 1];
+
+	static {
+		for (int n = 0; n <= Card.DECK_SIZE; n++) {
+			BINOMIALS[n][0] = 1;
+			for (int k = 1; k <= MonteCarloEquity.BOARD_SIZE && k <= n; k++) {
+				BINOMIALS[n][k] = BINOMIALS[n - 1][k - 1] + BINOMIALS[n - 1][k];
+			}
+		}
+	}
+
+	/*** CALCULATION METHODS ***/
+	/**
+	 * Calculates exact equity on the common ForkJoinPool. Arrays not changed
+	 *
+	 * @param holeCards 2 cards for each player, at least 2 players
+	 * @param board     0-5 community cards already dealt
+	 *
+	 * @return win/tie/equity for each player, in same order as holeCards
+	 *
+	 * @throws IllegalArgumentException if hands/board are not valid
+	 */
+	public static Equity calculate(Card[][] holeCards, Card[] board) {
+		return calculate(holeCards, board, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Calculates exact equity on given ForkJoinPool. Arrays not changed
+	 *
+	 * @param holeCards 2 cards for each player, at least 2 players
+	 * @param board     0-5 community cards already dealt
+	 * @param pool      pool to run workers on
+	 *
+	 * @return win/tie/equity for each player, in same order as holeCards
+	 *
+	 * @throws IllegalArgumentException if hands/board are not valid
+	 */
+	public static Equity calculate(Card[][] holeCards, Card[] board, ForkJoinPool pool) {
+		long[] holeBits = new long[holeCards.length];
+		long boardBits;
+		long dead;
+		byte[] remaining;
+		int missing;
+
+		MonteCarloEquity.checkSpot(holeCards, board);
+		boardBits = MonteCarloEquity.toBits(board);
+		dead = boardBits;
+		for (int player = 0; player < holeCards.length; player++) {
+			holeBits[player] = MonteCarloEquity.toBits(holeCards[player]);
+			dead |= holeBits[player];
+		}
+		remaining = MonteCarloEquity.remainingCards(dead);
+		missing = MonteCarloEquity.BOARD_SIZE - board.length;
+
+		return pool.invoke(new EnumerationTask(holeBits, boardBits, missing, remaining, 0,
+			choose(remaining.length, missing)));
+	}
+
+	/*** COMBINATORICS METHODS ***/
+	/**
+	 * Number of ways to choose k items out of n (binomial coefficient), from table
+	 *
+	 * @param n number of items, 0-52
+	 * @param k number chosen, 0-5
+	 *
+	 * @return n choose k, 0 if k is more than n
+	 */
+	public static long choose(int n, int k) {
+		return BINOMIALS[n][k];
+	}
+
+	/**
+	 * Fills combination with the index-th combination in colexicographic order
+	 * (combinatorial number system): index = C(c[k-1], k) + ... + C(c[0], 1), with
+	 * c[0] less than c[1] less than ... c[k-1]
+	 *
+	 * @param index       combination number, 0 to C(n, k) - 1
+	 * @param combination array of size k to fill with item positions
+	 */
+	static void unrank(long index, int[] combination) {
+		int candidate = Card.DECK_SIZE;
+
+		for (int i = combination.length; i >= 1; i--) {
+			do {
+				candidate--;
+			} while (BINOMIALS[candidate][i] > index);
+			combination[i - 1] = candidate;
+			index -= BINOMIALS[candidate][i];
+		}
+	}
+
+	/**
+	 * Moves combination to the next one in colexicographic order, in place. Caller
+	 * must stop after the last combination
+	 *
+	 * @param combination item positions in increasing order
+	 */
+	static void nextCombination(int[] combination) {
+		int i = 0;
+
+		while (i < combination.length - 1 && combination[i] + 1 == combination[i + 1]) {
+			combination[i] = i;
+			i++;
+		}
+		combination[i]++;
+	}
+
+	/**
+	 * Ranks every runout in a range of runout numbers. Splits itself in half until
+	 * range is small enough, so the pool can spread work over every core
+	 */
+	private static class EnumerationTask extends RecursiveTask<Equity> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final long[] holeBits;
+		private final long boardBits;
+		private final int missing;
+		private final byte[] remaining;
+		private final long from;
+		private final long to;
+
+		EnumerationTask(long[] holeBits, long boardBits, int missing, byte[] remaining, long from, long to) {
+			this.holeBits = holeBits;
+			this.boardBits = boardBits;
+			this.missing = missing;
+			this.remaining = remaining;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Equity compute() {
+			if (to - from > RUNOUTS_PER_TASK) {
+				long middle = (from + to) >>> 1;
+				EnumerationTask left = new EnumerationTask(holeBits, boardBits, missing, remaining, from, middle);
+				EnumerationTask right = new EnumerationTask(holeBits, boardBits, missing, remaining, middle, to);
+				Equity result;
+
+				left.fork();
+				result = right.compute();
+				result.add(left.join());
+				return result;
+			}
+
+			int[] combination = new int[missing];
+			int[] strengths = new int[holeBits.length];
+			Equity result = new Equity(holeBits.length);
+
+			unrank(from, combination);
+			for (long index = from; index < to; index++) {
+				long board = boardBits;
+
+				for (int position : combination) {
+					board |= 1L << remaining[position];
+				}
+				for (int player = 0; player < holeBits.length; player++) {
+					strengths[player] = SevenCardEvaluator.evaluate(board | holeBits[player]);
+				}
+				result.record(strengths);
+
+				if (index + 1 < to) {
+					nextCombination(combination);
+				}
+			}
+			return result;
+		}
+	}
+
+}
@@ -0,0 +1,250 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Reads hand history files, one hand per line in card notation (see
+ * {@link CardParser}, ex: "A♥ 10♦ K♠" or "Ah Td Ks"), into {@link PackedHands}
+ *
+ * Pipeline:
+ * - A quick pass over the file picks chunk boundaries about CHUNK_SIZE bytes
+ * apart, each moved forward to just after a line break, so no line is split
+ * - Chunks are spread over a ForkJoinPool; each worker memory-maps its chunk
+ * and parses every line straight from the mapped buffer (no read() calls and
+ * no copy onto the heap), building no Strings or Card objects
+ * - Results are joined once at the end in chunk order, so hands keep their
+ * order in the file
+ *
+ * Lines may end in \n or \r\n; blank lines are skipped, and lines that aren't
+ * cards are counted (see {@link PackedHands#getMalformedLines()})
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   HandHistoryIngester
+ * -------------------------------------------------------
+ * - CHUNK_SIZE : int		//static constant, target bytes per chunk
+ * - SCAN_SIZE : int		//static constant, bytes read at a time looking for line ends
+ * -------------------------------------------------------
+ * + ingest(file : Path) : PackedHands
+ * + ingest(file : Path, pool : ForkJoinPool) : PackedHands
+ * ~ ingest(file : Path, pool : ForkJoinPool, chunkSize : int) : PackedHands
+ * ~ chunkBoundaries(channel : FileChannel, chunkSize : int) : long[]
+ * ~ parseLines(text : ByteBuffer, from : int, to : int, into : PackedHands) : void
+ * - indexOf(text : byte[], length : int, b : byte) : int
+ * -------------------------------------------------------
+ */
+
+public class HandHistoryIngester {
+
+	/*** CONSTANT VARIABLES ***/
+	private static final int CHUNK_SIZE = 1 << 23;
+	private static final int SCAN_SIZE = 4096;
+
+	/*** INGESTION METHODS ***/
+	/**
+	 * Reads every hand in file on the common ForkJoinPool
+	 *
+	 * @param file text file, UTF-8, one hand per line
+	 *
+	 * @return every hand in file order, plus count of malformed lines
+	 *
+	 * @throws IOException if file can't be read, or has a line too long to map
+	 */
+	public static PackedHands ingest(Path file) throws IOException {
+		return ingest(file, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Reads every hand in file on given ForkJoinPool
+	 *
+	 * @param file text file, UTF-8, one hand per line
+	 * @param pool pool to run workers on
+	 *
+	 * @return every hand in file order, plus count of malformed lines
+	 *
+	 * @throws IOException if file can't be read, or has a line too long to map
+	 */
+	public static PackedHands ingest(Path file, ForkJoinPool pool) throws IOException {
+		return ingest(file, pool, CHUNK_SIZE);
+	}
+
+	/**
+	 * Reads every hand in file on given ForkJoinPool, with given target chunk size
+	 * (small sizes let tests cover chunk edges)
+	 *
+	 * @param file      text file, UTF-8, one hand per line
+	 * @param pool      pool to run workers on
+	 * @param chunkSize target bytes per chunk (1 or more)
+	 *
+	 * @return every hand in file order, plus count of malformed lines
+	 *
+	 * @throws IOException           if file can't be read, or has a line too long
+	 *                               to map
+	 * @throws IllegalStateException if file holds more cards or hands than one
+	 *                               PackedHands can (about 2^31)
+	 */
+	static PackedHands ingest(Path file, ForkJoinPool pool, int chunkSize) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long[] boundaries = chunkBoundaries(channel, chunkSize);
+			PackedHands[] chunks = new PackedHands[boundaries.length - 1];
+
+			try {
+				pool.invoke(new ChunkTask(channel, boundaries, chunks, 0, chunks.length));
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+			return PackedHands.concat(chunks);
+		}
+	}
+
+	/*** HELPER METHODS ***/
+	/**
+	 * Picks chunk start positions: every chunkSize bytes, moved forward to just
+	 * after the next line break (or end of file). Only reads a few bytes near each
+	 * boundary, so this pass is quick even for huge files
+	 *
+	 * @param channel   open file
+	 * @param chunkSize target bytes per chunk
+	 *
+	 * @return positions, first is 0 and last is file size, chunk i runs from
+	 *         boundaries[i] to boundaries[i + 1]
+	 *
+	 * @throws IOException if file can't be read, or a chunk is too big to map
+	 */
+	static long[] chunkBoundaries(FileChannel channel, int chunkSize) throws IOException {
+		long size = channel.size();
+		long[] boundaries = new long[16];
+		ByteBuffer scan = ByteBuffer.allocate(SCAN_SIZE);
+		int count = 1;
+		long position = 0;
+
+		while (position < size) {
+			long next = Math.min(position + chunkSize, size);
+
+			// move forward to just after a line break
+			while (next < size) {
+				int read;
+
+				scan.clear();
+				read = channel.read(scan, next);
+				if (read <= 0) {
+					next = size;
+					break;
+				}
+
+				int newline = indexOf(scan.array(), read, (byte) '\n');
+
+				if (newline >= 0) {
+					next += newline + 1;
+					break;
+				}
+				next += read;
+			}
+
+			if (next - position > Integer.MAX_VALUE) {
+				throw new IOException("Line too long to read, over " + Integer.MAX_VALUE + " bytes at " + position);
+			}
+			if (count == boundaries.length) {
+				boundaries = Arrays.copyOf(boundaries, count * 2);
+			}
+			boundaries[count++] = next;
+			position = next;
+		}
+		return Arrays.copyOf(boundaries, count);
+	}
+
+	/**
+	 * Adds each line of text to store (see {@link PackedHands#addLine(ByteBuffer, int, int)},
+	 * which finds line ends as it reads, so each byte is read once). Last line
+	 * doesn't need a line break. Buffer not changed
+	 *
+	 * @param text UTF-8 text (ex: memory-mapped chunk), read by absolute index
+	 * @param from index of first byte
+	 * @param to   index after last byte
+	 * @param into store to add hands to
+	 */
+	static void parseLines(ByteBuffer text, int from, int to, PackedHands into) {
+		int start = from;
+
+		while (start < to) {
+			start = into.addLine(text, start, to);
+		}
+	}
+
+	/**
+	 * Position of first b in text[0, length), or -1
+	 */
+	private static int indexOf(byte[] text, int length, byte b) {
+		for (int i = 0; i < length; i++) {
+			if (text[i] == b) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Parses a range of chunks. Splits itself in half until it has one chunk, so
+	 * the pool can spread chunks over every core; each chunk's result goes in its
+	 * own slot so nothing is shared between workers
+	 */
+	private static class ChunkTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final FileChannel channel;
+		private final long[] boundaries;
+		private final PackedHands[] results;
+		private final int first;
+		private final int last;
+
+		ChunkTask(FileChannel channel, long[] boundaries, PackedHands[] results, int first, int last) {
+			this.channel = channel;
+			this.boundaries = boundaries;
+			this.results = results;
+			this.first = first;
+			this.last = last;
+		}
+
+		@Override
+		protected void compute() {
+			if (last - first > 1) {
+				int middle = (first + last) >>> 1;
+
+				invokeAll(new ChunkTask(channel, boundaries, results, first, middle),
+					new ChunkTask(channel, boundaries, results, middle, last));
+				return;
+			}
+
+			for (int chunk = first; chunk < last; chunk++) {
+				long start = boundaries[chunk];
+				int length = (int) (boundaries[chunk + 1] - start);
+				// about 1 card per 3 bytes of text, so store rarely has to grow
+				PackedHands result = new PackedHands(length / 3 + 16, length / 16 + 16);
+				MappedByteBuffer mapped;
+
+				try {
+					mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+
+				parseLines(mapped, 0, length, result);
+				results[chunk] = result;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,236 @@
+/**
+ * Unchangeable version of Card, safe to share between threads and keep in
+ * caches without copying or locking
+ *
+ * Class Invariant:
+ * - Value (1-13) and suit (♥ ♦ ♣ ♠) are always valid and set once, in final
+ * fields, so any thread that can see the object sees the same card
+ * - There is exactly one ImmutableCard per card, built when class is loaded and
+ * handed out by the factory methods, so getting one never builds an object
+ * - Ordering, hash code, toString() and getPrintValue() match Card exactly
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   ImmutableCard
+ * -------------------------------------------------------
+ * - value : int
+ * - suit : char
+ * - ordinal : int
+ * - POOL : ImmutableCard[]	//static table of all 52 cards
+ * -------------------------------------------------------
+ * - ImmutableCard(ordinal : int)
+ * + of(value : int, suit : char) : ImmutableCard
+ * + decode(ordinal : int) : ImmutableCard
+ * + from(card : Card) : ImmutableCard
+ * + toCard() : Card
+ * + getValue() : int
+ * + getSuit() : char
+ * + getSuitIndex() : int
+ * + encode() : int
+ * + getPrintValue() : String
+ * + toString() : String
+ * + matches(card : Card) : boolean
+ * + equals(other : Object) : boolean
+ * + hashCode() : int
+ * + compareTo(other : ImmutableCard) : int
+ * -------------------------------------------------------
+ */
+
+public final class ImmutableCard implements Comparable<ImmutableCard> {
+
+	/*** STATIC VARIABLES ***/
+	private static final ImmutableCard[] POOL = new ImmutableCard[Card.DECK_SIZE];
+
+	static {
+		for (int i = 0; i < POOL.length; i++) {
+			POOL[i] = new ImmutableCard(i);
+		}
+	}
+
+	/*** INSTANCE VARIABLES ***/
+	private final int value;
+	private final char suit;
+	private final int ordinal;
+
+	/*** CONSTRUCTOR METHODS ***/
+	/**
+	 * Pool constructor, only used to fill POOL
+	 *
+	 * @param ordinal card number 0-51 (see {@link Card#encode()})
+	 */
+	private ImmutableCard(int ordinal) {
+		this.value = Card.decodeValue(ordinal);
+		this.suit = Card.decodeSuit(ordinal);
+		this.ordinal = ordinal;
+	}
+
+	/*** FACTORY METHODS ***/
+	/**
+	 * Access card for given value and suit
+	 *
+	 * @param value numerical value of card (1-13)
+	 * @param suit  one of four suit values
+	 *
+	 * @return shared ImmutableCard
+	 *
+	 * @throws IllegalArgumentException if value or suit is not valid
+	 */
+	public static ImmutableCard of(int value, char suit) {
+		int ordinal = Card.encode(value, suit);
+
+		if (ordinal < 0) {
+			throw new IllegalArgumentException("Invalid Data, no card with value " + value + " and suit '" + suit + "'");
+		}
+		return POOL[ordinal];
+	}
+
+	/**
+	 * Access card for given card number
+	 *
+	 * @param ordinal card number 0-51 (see {@link Card#encode()})
+	 *
+	 * @return shared ImmutableCard
+	 *
+	 * @throws IllegalArgumentException if ordinal is not 0-51
+	 */
+	public static ImmutableCard decode(int ordinal) {
+		if (ordinal < 0 || ordinal >= Card.DECK_SIZE) {
+			throw new IllegalArgumentException("Invalid Data, card number " + ordinal + " is not 0-51");
+		}
+		return POOL[ordinal];
+	}
+
+	/**
+	 * Access unchangeable version of Card. Card object not changed, and later
+	 * changes to it don't affect returned card
+	 *
+	 * @param card Card to convert
+	 *
+	 * @return shared ImmutableCard with same value and suit
+	 *
+	 * @throws IllegalArgumentException if card is null
+	 */
+	public static ImmutableCard from(Card card) {
+		if (card == null) {
+			throw new IllegalArgumentException("Null Given, Card can't be converted");
+		}
+		return POOL[card.encode()];
+	}
+
+	/**
+	 * Builds new Card with same value and suit, which caller is free to change
+	 *
+	 * @return new Card object
+	 */
+	public Card toCard() {
+		return new Card(Card.decodeUnchecked(ordinal));
+	}
+
+	/*** ACCESSOR METHODS (GETTERS) ***/
+	/**
+	 * Access numerical value of card
+	 *
+	 * @return value 1-13
+	 */
+	public int getValue() {
+		return value;
+	}
+
+	/**
+	 * Access suit of card
+	 *
+	 * @return unicode char for suit
+	 */
+	public char getSuit() {
+		return suit;
+	}
+
+	/**
+	 * Access position of suit in deck order, same as {@link Card#getSuitIndex()}
+	 *
+	 * @return suit index 0-3
+	 */
+	public int getSuitIndex() {
+		return Card.decodeSuitIndex(ordinal);
+	}
+
+	/**
+	 * Access card number, same as {@link Card#encode()}
+	 *
+	 * @return card number 0-51
+	 */
+	public int encode() {
+		return ordinal;
+	}
+
+	/**
+	 * Access value as shown on card, same as {@link Card#getPrintValue()}
+	 *
+	 * @return A, 2-10, J, Q or K
+	 */
+	public String getPrintValue() {
+		return Card.decodeUnchecked(ordinal).getPrintValue();
+	}
+
+	/*** OTHER REQUIRED METHODS ***/
+	/**
+	 * String of print value and suit, same as {@link Card#toString()}
+	 *
+	 * @return String containing card data (ex: A ♥)
+	 */
+	public String toString() {
+		return Card.decodeUnchecked(ordinal).toString();
+	}
+
+	/**
+	 * Checks if Card has same value and suit. Card object not changed
+	 *
+	 * @param card Card to compare with
+	 *
+	 * @return true if same card, false if different or null
+	 */
+	public boolean matches(Card card) {
+		return card != null && card.encode() == ordinal;
+	}
+
+	/**
+	 * Checking for equality with another ImmutableCard. Since there is only one
+	 * object per card, this is the same as ==. A Card is never equal to an
+	 * ImmutableCard, use {@link #matches(Card)} to compare with one
+	 *
+	 * @param other object to compare with
+	 *
+	 * @return true if other is the same card, false otherwise
+	 */
+	public boolean equals(Object other) {
+		return other instanceof ImmutableCard && ((ImmutableCard) other).ordinal == ordinal;
+	}
+
+	/**
+	 * Hash code is card number 0-51, same as {@link Card#hashCode()}
+	 *
+	 * @return card number
+	 */
+	public int hashCode() {
+		return ordinal;
+	}
+
+	/**
+	 * Natural ordering of cards, same as {@link Card#compareTo(Card)}: by value (A
+	 * low, K high), then by suit in deck order
+	 *
+	 * @param other card to compare with
+	 *
+	 * @return negative if this card comes first, positive if other comes first, 0
+	 *         if same card
+	 */
+	public int compareTo(ImmutableCard other) {
+		return Card.decodeUnchecked(ordinal).compareTo(Card.decodeUnchecked(other.ordinal));
+	}
+
+}
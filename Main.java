@@ -11,9 +11,10 @@ public class Main {
 	/* ALGORITHM
 	*
 	1. Generate 52 card deck into Card array
-	- ???
+	- build new Deck (in deck order)
+	- deal all 52 cards into Card array
 	2. Print deck (simple)
-	- ???
+	- print each card followed by a space, new line after each suit (K)
 	*
 	*/
 	public static void main(String[] args) {
@@ -23,10 +24,17 @@ public class Main {
 
 		/*** DRIVER PROGRAM ***/
 		//1. Generate 52 card deck into Card array
-		Card cards = new Card();
-		cards.getPrintCard();
+		Deck deck = new Deck();
+		Card[] cards = new Card[Card.DECK_SIZE];
+		deck.dealN(cards, 0, cards.length);
 
 		//2. Print deck
-		cards.printCard();
+		for (Card card : cards) {
+			System.out.print(card + " ");
+			if (card.getValue() == 13) {
+				System.out.println();
+			}
+		}
+		System.out.println();
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,217 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Estimates Texas Hold'em equity (win/tie chances) for each player's hole cards
+ * and a partial board, by dealing random runouts of the remaining cards and
+ * ranking every hand with {@link SevenCardEvaluator}
+ *
+ * Runouts are split across a ForkJoinPool. Each worker gets its own random
+ * generator (split from the seed, so results repeat for the same seed and
+ * split) and its own copy of the remaining cards, so workers share nothing
+ * while running and their counts are only merged at the end
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   MonteCarloEquity
+ * -------------------------------------------------------
+ * + BOARD_SIZE : int		//static constant with value 5
+ * - RUNOUTS_PER_TASK : long	//static constant, runouts before task is split
+ * -------------------------------------------------------
+ * + calculate(holeCards : Card[][], board : Card[], runouts : long, seed : long) : Equity
+ * + calculate(holeCards : Card[][], board : Card[], runouts : long, seed : long,
+ *             pool : ForkJoinPool) : Equity
+ * ~ checkSpot(holeCards : Card[][], board : Card[]) : void
+ * ~ toBits(cards : Card[]) : long
+ * ~ remainingCards(dead : long) : byte[]
+ * -------------------------------------------------------
+ */
+
+public class MonteCarloEquity {
+
+	/*** CONSTANT VARIABLES ***/
+	public static final int BOARD_SIZE = 5;
+	private static final long RUNOUTS_PER_TASK = 1 << 16;
+
+	/*** CALCULATION METHODS ***/
+	/**
+	 * Estimates equity on the common ForkJoinPool. Arrays not changed
+	 *
+	 * @param holeCards 2 cards for each player, at least 2 players
+	 * @param board     0-5 community cards already dealt
+	 * @param runouts   number of random boards to deal
+	 * @param seed      seed for random generator, same seed gives same results
+	 *
+	 * @return win/tie/equity for each player, in same order as holeCards
+	 *
+	 * @throws IllegalArgumentException if hands/board are not valid
+	 */
+	public static Equity calculate(Card[][] holeCards, Card[] board, long runouts, long seed) {
+		return calculate(holeCards, board, runouts, seed, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Estimates equity on given ForkJoinPool. Arrays not changed
+	 *
+	 * @param holeCards 2 cards for each player, at least 2 players
+	 * @param board     0-5 community cards already dealt
+	 * @param runouts   number of random boards to deal
+	 * @param seed      seed for random generator, same seed gives same results
+	 * @param pool      pool to run workers on
+	 *
+	 * @return win/tie/equity for each player, in same order as holeCards
+	 *
+	 * @throws IllegalArgumentException if hands/board are not valid
+	 */
+	public static Equity calculate(Card[][] holeCards, Card[] board, long runouts, long seed, ForkJoinPool pool) {
+		long[] holeBits = new long[holeCards.length];
+		long boardBits;
+		long dead;
+
+		checkSpot(holeCards, board);
+		boardBits = toBits(board);
+		dead = boardBits;
+		for (int player = 0; player < holeCards.length; player++) {
+			holeBits[player] = toBits(holeCards[player]);
+			dead |= holeBits[player];
+		}
+
+		return pool.invoke(new RunoutTask(holeBits, boardBits, BOARD_SIZE - board.length, remainingCards(dead),
+			runouts, new SplittableRandom(seed)));
+	}
+
+	/*** HELPER METHODS ***/
+	/**
+	 * Checks there are at least 2 players with 2 cards each, at most 5 board cards,
+	 * no card used twice, and enough cards left in the deck to finish the board
+	 *
+	 * @param holeCards 2 cards for each player
+	 * @param board     community cards already dealt
+	 *
+	 * @throws IllegalArgumentException if any of these checks fail
+	 */
+	static void checkSpot(Card[][] holeCards, Card[] board) {
+		boolean isValid = holeCards.length >= 2 && board.length <= BOARD_SIZE;
+		long seen = toBits(board);
+		int cardCount = board.length;
+
+		for (int player = 0; isValid && player < holeCards.length; player++) {
+			isValid = holeCards[player].length == 2;
+			seen |= toBits(holeCards[player]);
+			cardCount += holeCards[player].length;
+		}
+
+		if (!isValid) {
+			throw new IllegalArgumentException("Invalid Data, need 2+ players with 2 cards each and at most "
+				+ BOARD_SIZE + " board cards");
+		}
+		if (Long.bitCount(seen) != cardCount) {
+			throw new IllegalArgumentException("Invalid Data, same card used more than once");
+		}
+		if (Card.DECK_SIZE - cardCount < BOARD_SIZE - board.length) {
+			throw new IllegalArgumentException("Invalid Data, " + (Card.DECK_SIZE - cardCount)
+				+ " cards left, not enough to deal " + (BOARD_SIZE - board.length) + " more board cards");
+		}
+	}
+
+	/**
+	 * CardSet bits for given cards (see {@link CardSet#getBits()})
+	 *
+	 * @param cards Card objects, not changed
+	 *
+	 * @return bit for each card OR'd together
+	 */
+	static long toBits(Card[] cards) {
+		long bits = 0L;
+
+		for (Card card : cards) {
+			bits |= CardSet.bit(card);
+		}
+		return bits;
+	}
+
+	/**
+	 * Packs every card not in dead set, in ordinal order
+	 *
+	 * @param dead CardSet bits of cards already used
+	 *
+	 * @return card numbers 0-51 still available
+	 */
+	static byte[] remainingCards(long dead) {
+		long remaining = CardSet.FULL_DECK & ~dead;
+		byte[] cards = new byte[Long.bitCount(remaining)];
+
+		for (int i = 0; i < cards.length; i++) {
+			cards[i] = (byte) Long.numberOfTrailingZeros(remaining);
+			remaining &= remaining - 1;
+		}
+		return cards;
+	}
+
+	/**
+	 * Deals and ranks a share of the runouts. Splits itself in half until share is
+	 * small enough, so the pool can spread work over every core
+	 */
+	private static class RunoutTask extends RecursiveTask<Equity> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final long[] holeBits;
+		private final long boardBits;
+		private final int missing;
+		private final byte[] remaining;
+		private final long runouts;
+		private final SplittableRandom random;
+
+		RunoutTask(long[] holeBits, long boardBits, int missing, byte[] remaining, long runouts,
+			SplittableRandom random) {
+			this.holeBits = holeBits;
+			this.boardBits = boardBits;
+			this.missing = missing;
+			this.remaining = remaining;
+			this.runouts = runouts;
+			this.random = random;
+		}
+
+		@Override
+		protected Equity compute() {
+			if (runouts > RUNOUTS_PER_TASK) {
+				RunoutTask left = new RunoutTask(holeBits, boardBits, missing, remaining, runouts / 2, random.split());
+				RunoutTask right = new RunoutTask(holeBits, boardBits, missing, remaining, runouts - runouts / 2,
+					random);
+				Equity result;
+
+				left.fork();
+				result = right.compute();
+				result.add(left.join());
+				return result;
+			}
+
+			// this worker's own deck, shuffled in place so runouts allocate nothing
+			byte[] deck = remaining.clone();
+			int[] strengths = new int[holeBits.length];
+			Equity result = new Equity(holeBits.length);
+
+			for (long i = 0; i < runouts; i++) {
+				long board = boardBits;
+
+				Deck.shuffle(deck, 0, deck.length, missing, random);
+				for (int j = 0; j < missing; j++) {
+					board |= 1L << deck[j];
+				}
+				for (int player = 0; player < holeBits.length; player++) {
+					strengths[player] = SevenCardEvaluator.evaluate(board | holeBits[player]);
+				}
+				result.record(strengths);
+			}
+			return result;
+		}
+	}
+
+}
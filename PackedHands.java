@@ -0,0 +1,300 @@
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Compact store for many hands read from text (see {@link HandHistoryIngester}):
+ * every card of every hand back to back as one card number per byte, plus
+ * where each hand starts, so millions of hands need no Card objects
+ *
+ * Class Invariant:
+ * - cards holds cardCount card numbers 0-51 (see {@link Card#encode()}), hands
+ * in the order their lines were read
+ * - Hand h is cards[offsets[h]] up to (not including) cards[offsets[h + 1]], and
+ * offsets[handCount] is always cardCount
+ * - Blank lines are skipped and are not hands; lines that aren't cards are not
+ * hands either but are counted in malformedLines
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   PackedHands
+ * -------------------------------------------------------
+ * - cards : byte[]
+ * - cardCount : int
+ * - offsets : int[]
+ * - handCount : int
+ * - malformedLines : long
+ * - MAX_LENGTH : int		//static constant, largest array length
+ * -------------------------------------------------------
+ * ~ PackedHands()
+ * ~ PackedHands(cardCapacity : int, handCapacity : int)
+ * ~ concat(parts : PackedHands[]) : PackedHands
+ * ~ addLine(text : ByteBuffer, from : int, to : int) : int
+ * ~ add(other : PackedHands) : void
+ * + getHandCount() : int
+ * + getCardCount() : int
+ * + getMalformedLines() : long
+ * + getHandSize(hand : int) : int
+ * + getCard(hand : int, index : int) : int
+ * + copyHand(hand : int, out : byte[], offset : int) : int
+ * + getHand(hand : int) : Card[]
+ * + toString() : String
+ * - ensureCapacity(extraCards : int, extraHands : int) : void
+ * - grow(length : int, needed : long) : int
+ * -------------------------------------------------------
+ */
+
+public class PackedHands {
+
+	/*** CONSTANT VARIABLES ***/
+	// largest array length every JVM allows
+	private static final int MAX_LENGTH = Integer.MAX_VALUE - 8;
+
+	/*** INSTANCE VARIABLES ***/
+	private byte[] cards;
+	private int cardCount;
+	private int[] offsets;
+	private int handCount;
+	private long malformedLines;
+
+	/*** CONSTRUCTOR METHODS ***/
+	/**
+	 * Builds empty store
+	 */
+	PackedHands() {
+		this(1024, 128);
+	}
+
+	/**
+	 * Builds empty store with room for given number of cards and hands before it
+	 * has to grow
+	 *
+	 * @param cardCapacity number of cards
+	 * @param handCapacity number of hands
+	 */
+	PackedHands(int cardCapacity, int handCapacity) {
+		this.cards = new byte[cardCapacity];
+		this.offsets = new int[handCapacity + 1];
+	}
+
+	/**
+	 * Builds one store holding all hands of parts, in order, sized exactly so
+	 * nothing is copied twice. Parts not changed
+	 *
+	 * @param parts stores to join (ex: results of parallel workers in file order)
+	 *
+	 * @return new store
+	 *
+	 * @throws IllegalStateException if parts hold more cards or hands than one
+	 *                               store can
+	 */
+	static PackedHands concat(PackedHands[] parts) {
+		long cards = 0;
+		long hands = 0;
+		PackedHands result;
+
+		for (PackedHands part : parts) {
+			cards += part.cardCount;
+			hands += part.handCount;
+		}
+
+		// grow() checks limit, starting from 0 it returns exactly what's needed
+		result = new PackedHands(grow(0, cards), grow(0, hands + 1) - 1);
+		for (PackedHands part : parts) {
+			result.add(part);
+		}
+		return result;
+	}
+
+	/*** MUTATOR METHODS ***/
+	/**
+	 * Reads one line of cards (see {@link CardParser#parseCards(ByteBuffer, int, int, byte[], int)})
+	 * starting at from straight into store, in the same pass that finds where the
+	 * line ends: reading stops at the first byte that isn't a card or separator,
+	 * which has to be the line break (\n or \r\n) or to. Blank lines are skipped,
+	 * lines that aren't cards are only counted. Buffer and its position not changed
+	 *
+	 * @param text UTF-8 text (ex: memory-mapped file)
+	 * @param from index of first byte of line
+	 * @param to   index after last byte of text
+	 *
+	 * @return index after the line break, or to if line has none
+	 */
+	int addLine(ByteBuffer text, int from, int to) {
+		int count = 0;
+		int stop = from;
+
+		// CardParser stops when cards is full, so make room and carry on
+		do {
+			this.ensureCapacity(count + 1, 1);
+
+			long result = CardParser.readCards(text, stop, to, cards, cardCount + count);
+
+			count += (int) result;
+			stop = (int) (result >>> 32);
+		} while (stop < to && cardCount + count == cards.length);
+
+		if (stop < to && text.get(stop) == '\r' && (stop + 1 == to || text.get(stop + 1) == '\n')) {
+			stop++;
+		}
+		if (stop < to && text.get(stop) != '\n') {
+			// not a card, skip rest of line and keep nothing from it
+			while (stop < to && text.get(stop) != '\n') {
+				stop++;
+			}
+			malformedLines++;
+		} else if (count > 0) {
+			cardCount += count;
+			handCount++;
+			offsets[handCount] = cardCount;
+		}
+		return stop < to ? stop + 1 : to;
+	}
+
+	/**
+	 * Adds all hands from other store after hands already here (used to merge
+	 * results from parallel workers in file order). Other object not changed
+	 *
+	 * @param other store to add in
+	 */
+	void add(PackedHands other) {
+		this.ensureCapacity(other.cardCount, other.handCount);
+		System.arraycopy(other.cards, 0, cards, cardCount, other.cardCount);
+		for (int h = 1; h <= other.handCount; h++) {
+			offsets[handCount + h] = cardCount + other.offsets[h];
+		}
+
+		cardCount += other.cardCount;
+		handCount += other.handCount;
+		malformedLines += other.malformedLines;
+	}
+
+	/*** ACCESSOR METHODS (GETTERS) ***/
+	/**
+	 * Access number of hands stored
+	 *
+	 * @return hand count
+	 */
+	public int getHandCount() {
+		return handCount;
+	}
+
+	/**
+	 * Access number of cards in all hands together
+	 *
+	 * @return card count
+	 */
+	public int getCardCount() {
+		return cardCount;
+	}
+
+	/**
+	 * Access number of lines that weren't blank but couldn't be read as cards
+	 *
+	 * @return malformed line count
+	 */
+	public long getMalformedLines() {
+		return malformedLines;
+	}
+
+	/**
+	 * Access number of cards in hand
+	 *
+	 * @param hand hand number, 0 to getHandCount() - 1
+	 *
+	 * @return card count of hand
+	 */
+	public int getHandSize(int hand) {
+		return offsets[hand + 1] - offsets[hand];
+	}
+
+	/**
+	 * Access one card of hand
+	 *
+	 * @param hand  hand number, 0 to getHandCount() - 1
+	 * @param index position of card in hand, 0 to getHandSize(hand) - 1
+	 *
+	 * @return card number 0-51
+	 */
+	public int getCard(int hand, int index) {
+		return cards[offsets[hand] + index];
+	}
+
+	/**
+	 * Copies card numbers of hand into out, without building objects
+	 *
+	 * @param hand   hand number, 0 to getHandCount() - 1
+	 * @param out    array to copy into, must have room for hand
+	 * @param offset index in out of first card
+	 *
+	 * @return number of cards copied
+	 */
+	public int copyHand(int hand, byte[] out, int offset) {
+		int size = getHandSize(hand);
+
+		System.arraycopy(cards, offsets[hand], out, offset, size);
+		return size;
+	}
+
+	/**
+	 * Access hand as shared Card objects (same ones {@link Card#decode(int)}
+	 * returns, ordinals were checked when the hand was added)
+	 *
+	 * @param hand hand number, 0 to getHandCount() - 1
+	 *
+	 * @return new Card array in order cards were read
+	 */
+	public Card[] getHand(int hand) {
+		Card[] result = new Card[getHandSize(hand)];
+
+		for (int i = 0; i < result.length; i++) {
+			result[i] = Card.decodeUnchecked(getCard(hand, i));
+		}
+		return result;
+	}
+
+	/*** OTHER REQUIRED METHODS ***/
+	/**
+	 * String of hand, card and malformed line counts, no newline character at end
+	 * of String
+	 *
+	 * @return String containing counts
+	 */
+	public String toString() {
+		return handCount + " hands, " + cardCount + " cards, " + malformedLines + " malformed lines";
+	}
+
+	/*** HELPER METHODS ***/
+	/**
+	 * Grows arrays (at least doubling) so extraCards more cards and extraHands
+	 * more hands fit
+	 */
+	private void ensureCapacity(int extraCards, int extraHands) {
+		long neededCards = (long) cardCount + extraCards;
+		long neededOffsets = (long) handCount + extraHands + 1;
+
+		if (neededCards > cards.length) {
+			cards = Arrays.copyOf(cards, grow(cards.length, neededCards));
+		}
+		if (neededOffsets > offsets.length) {
+			offsets = Arrays.copyOf(offsets, grow(offsets.length, neededOffsets));
+		}
+	}
+
+	/**
+	 * New array length: double current length, or needed if that's more
+	 *
+	 * @throws IllegalStateException if needed is more than an array can hold
+	 */
+	private static int grow(int length, long needed) {
+		if (needed > MAX_LENGTH) {
+			throw new IllegalStateException("Too many cards for one PackedHands, split input into smaller files");
+		}
+		return (int) Math.max(needed, Math.min(2L * length, MAX_LENGTH));
+	}
+
+}
@@ -0,0 +1,358 @@
+/**
+ * Ranks 5-card poker hands into a single int strength, using tables built once
+ * when class is loaded (Cactus Kev style: each card packed into an int with a
+ * prime for its rank, a rank bit, and a suit bit)
+ *
+ * Class Invariant:
+ * - Strength is between 1 (7-5-4-3-2 unsuited, worst hand) and 7462 (royal
+ * flush), higher strength always beats lower strength, equal strengths tie
+ * - Every one of the 7462 different hand values gets its own strength, so
+ * strength can index straight into arrays
+ * - Inside this class ranks are numbered 0 (2) through 12 (A), since A is high
+ * in poker; Card value 1 (A) becomes rank 12
+ * - Tables are never changed after class is loaded, so evaluating is safe from
+ * any number of threads
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   PokerHandEvaluator
+ * -------------------------------------------------------
+ * + HIGH_CARD : int ... STRAIGHT_FLUSH : int	//static constants with values 0-8
+ * + HAND_COUNT : int		//static constant with value 7462
+ * ~ PRIMES : int[]			//static table of prime for each rank 0-12
+ * - CARD_CODES : int[]		//static table of packed int for each card 0-51
+ * - CATEGORY_NAMES : String[]
+ * - CATEGORY_START : int[]	//static table of lowest strength in each category
+ * - FLUSHES : short[]		//static table of strength by rank mask, all one suit
+ * - UNIQUE_RANKS : short[]	//static table of strength by rank mask, 5 different ranks
+ * - PRODUCT_KEYS : int[]	//static hash table of prime products (paired hands)
+ * - PRODUCT_STRENGTHS : short[]
+ * -------------------------------------------------------
+ * + evaluate(a : Card, b : Card, c : Card, d : Card, e : Card) : int
+ * + evaluate(a : int, b : int, c : int, d : int, e : int) : int
+ * + evaluate(hand : byte[], offset : int) : int
+ * + getCategory(strength : int) : int
+ * + getCategoryName(strength : int) : String
+ * ~ getRank(ordinal : int) : int
+ * ~ flushStrength(rankMask : int) : int
+ * ~ uniqueStrength(rankMask : int) : int
+ * ~ productStrength(product : int) : int
+ * - evaluateCodes(a : int, b : int, c : int, d : int, e : int) : int
+ * - isStraight(rankMask : int) : boolean
+ * - maskProduct(rankMask : int) : int
+ * - addProduct(product : int, strength : int) : void
+ * - hash(product : int) : int
+ * -------------------------------------------------------
+ */
+
+public class PokerHandEvaluator {
+
+	/*** CONSTANT VARIABLES ***/
+	public static final int HIGH_CARD = 0;
+	public static final int ONE_PAIR = 1;
+	public static final int TWO_PAIR = 2;
+	public static final int THREE_OF_A_KIND = 3;
+	public static final int STRAIGHT = 4;
+	public static final int FLUSH = 5;
+	public static final int FULL_HOUSE = 6;
+	public static final int FOUR_OF_A_KIND = 7;
+	public static final int STRAIGHT_FLUSH = 8;
+	public static final int HAND_COUNT = 7462;
+
+	/*** STATIC VARIABLES ***/
+	static final int[] PRIMES = { 2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41 };
+
+	private static final String[] CATEGORY_NAMES = { "High Card", "One Pair", "Two Pair", "Three of a Kind",
+		"Straight", "Flush", "Full House", "Four of a Kind", "Straight Flush" };
+	private static final int RANK_MASKS = 1 << 13;
+	// 4888 paired hands in 16384 slots keeps probe chains to about 1 step
+	private static final int PRODUCT_TABLE_BITS = 14;
+	private static final int[] CARD_CODES = new int[Card.DECK_SIZE];
+	private static final int[] CATEGORY_START = new int[CATEGORY_NAMES.length];
+	private static final short[] FLUSHES = new short[RANK_MASKS];
+	private static final short[] UNIQUE_RANKS = new short[RANK_MASKS];
+	private static final int[] PRODUCT_KEYS = new int[1 << PRODUCT_TABLE_BITS];
+	private static final short[] PRODUCT_STRENGTHS = new short[1 << PRODUCT_TABLE_BITS];
+
+	/*
+	 * Tables are filled by walking every hand value from weakest to strongest and
+	 * numbering them 1, 2, 3, ... Within a category, walking rank masks in
+	 * increasing numerical order is the same as comparing highest card first, so
+	 * plain counting loops produce the right order.
+	 */
+	static {
+		int strength = 0;
+
+		for (int ordinal = 0; ordinal < Card.DECK_SIZE; ordinal++) {
+			int rank = getRank(ordinal);
+			int suit = ordinal / 13;
+
+			CARD_CODES[ordinal] = PRIMES[rank] | (rank << 8) | (0x1000 << suit) | (1 << (16 + rank));
+		}
+
+		CATEGORY_START[HIGH_CARD] = strength + 1;
+		for (int mask = 0; mask < RANK_MASKS; mask++) {
+			if (Integer.bitCount(mask) == 5 && !isStraight(mask)) {
+				UNIQUE_RANKS[mask] = (short) ++strength;
+			}
+		}
+
+		CATEGORY_START[ONE_PAIR] = strength + 1;
+		for (int pair = 0; pair < 13; pair++) {
+			for (int kickers = 0; kickers < RANK_MASKS; kickers++) {
+				if (Integer.bitCount(kickers) == 3 && (kickers & (1 << pair)) == 0) {
+					addProduct(PRIMES[pair] * PRIMES[pair] * maskProduct(kickers), ++strength);
+				}
+			}
+		}
+
+		CATEGORY_START[TWO_PAIR] = strength + 1;
+		for (int high = 1; high < 13; high++) {
+			for (int low = 0; low < high; low++) {
+				for (int kicker = 0; kicker < 13; kicker++) {
+					if (kicker != high && kicker != low) {
+						addProduct(PRIMES[high] * PRIMES[high] * PRIMES[low] * PRIMES[low] * PRIMES[kicker], ++strength);
+					}
+				}
+			}
+		}
+
+		CATEGORY_START[THREE_OF_A_KIND] = strength + 1;
+		for (int trips = 0; trips < 13; trips++) {
+			for (int kickers = 0; kickers < RANK_MASKS; kickers++) {
+				if (Integer.bitCount(kickers) == 2 && (kickers & (1 << trips)) == 0) {
+					addProduct(PRIMES[trips] * PRIMES[trips] * PRIMES[trips] * maskProduct(kickers), ++strength);
+				}
+			}
+		}
+
+		CATEGORY_START[STRAIGHT] = strength + 1;
+		UNIQUE_RANKS[0x100F] = (short) ++strength; // 5-4-3-2-A, ace plays low
+		for (int low = 0; low <= 8; low++) {
+			UNIQUE_RANKS[0x1F << low] = (short) ++strength;
+		}
+
+		CATEGORY_START[FLUSH] = strength + 1;
+		for (int mask = 0; mask < RANK_MASKS; mask++) {
+			if (Integer.bitCount(mask) == 5 && !isStraight(mask)) {
+				FLUSHES[mask] = (short) ++strength;
+			}
+		}
+
+		CATEGORY_START[FULL_HOUSE] = strength + 1;
+		for (int trips = 0; trips < 13; trips++) {
+			for (int pair = 0; pair < 13; pair++) {
+				if (pair != trips) {
+					addProduct(PRIMES[trips] * PRIMES[trips] * PRIMES[trips] * PRIMES[pair] * PRIMES[pair], ++strength);
+				}
+			}
+		}
+
+		CATEGORY_START[FOUR_OF_A_KIND] = strength + 1;
+		for (int quads = 0; quads < 13; quads++) {
+			for (int kicker = 0; kicker < 13; kicker++) {
+				if (kicker != quads) {
+					int quadProduct = PRIMES[quads] * PRIMES[quads] * PRIMES[quads] * PRIMES[quads];
+
+					addProduct(quadProduct * PRIMES[kicker], ++strength);
+				}
+			}
+		}
+
+		CATEGORY_START[STRAIGHT_FLUSH] = strength + 1;
+		FLUSHES[0x100F] = (short) ++strength;
+		for (int low = 0; low <= 8; low++) {
+			FLUSHES[0x1F << low] = (short) ++strength;
+		}
+	}
+
+	/*** EVALUATION METHODS ***/
+	/**
+	 * Ranks 5 different cards as a poker hand. Card objects not changed
+	 *
+	 * @return strength 1-7462, higher is better (see {@link #getCategory(int)}),
+	 *         or 0 if hand is impossible (five of a kind)
+	 */
+	public static int evaluate(Card a, Card b, Card c, Card d, Card e) {
+		return evaluateCodes(CARD_CODES[a.encode()], CARD_CODES[b.encode()], CARD_CODES[c.encode()],
+			CARD_CODES[d.encode()], CARD_CODES[e.encode()]);
+	}
+
+	/**
+	 * Ranks 5 different cards, given as card numbers (see {@link Card#encode()}),
+	 * as a poker hand
+	 *
+	 * @return strength 1-7462, higher is better (see {@link #getCategory(int)}),
+	 *         or 0 if hand is impossible (five of a kind)
+	 */
+	public static int evaluate(int a, int b, int c, int d, int e) {
+		return evaluateCodes(CARD_CODES[a], CARD_CODES[b], CARD_CODES[c], CARD_CODES[d], CARD_CODES[e]);
+	}
+
+	/**
+	 * Ranks 5 packed cards in a row (see {@link Card#encode()}) as a poker hand.
+	 * Array not changed
+	 *
+	 * @param hand   card numbers 0-51
+	 * @param offset index of first of the 5 cards
+	 *
+	 * @return strength 1-7462, higher is better (see {@link #getCategory(int)}),
+	 *         or 0 if hand is impossible (five of a kind)
+	 */
+	public static int evaluate(byte[] hand, int offset) {
+		return evaluateCodes(CARD_CODES[hand[offset]], CARD_CODES[hand[offset + 1]], CARD_CODES[hand[offset + 2]],
+			CARD_CODES[hand[offset + 3]], CARD_CODES[hand[offset + 4]]);
+	}
+
+	/*** ACCESSOR METHODS ***/
+	/**
+	 * Access category of hand strength (HIGH_CARD through STRAIGHT_FLUSH)
+	 *
+	 * @param strength hand strength 1-7462
+	 *
+	 * @return category constant 0-8
+	 */
+	public static int getCategory(int strength) {
+		int category = STRAIGHT_FLUSH;
+
+		while (category > HIGH_CARD && strength < CATEGORY_START[category]) {
+			category--;
+		}
+		return category;
+	}
+
+	/**
+	 * Access name of category of hand strength, as player would say it (ex: Full
+	 * House)
+	 *
+	 * @param strength hand strength 1-7462
+	 *
+	 * @return category name
+	 */
+	public static String getCategoryName(int strength) {
+		return CATEGORY_NAMES[getCategory(strength)];
+	}
+
+	/*** TABLE ACCESS METHODS ***/
+	/**
+	 * Poker rank of card, 0 (2) through 12 (A)
+	 *
+	 * @param ordinal card number 0-51
+	 *
+	 * @return rank 0-12
+	 */
+	static int getRank(int ordinal) {
+		return (ordinal % 13 + 12) % 13;
+	}
+
+	/**
+	 * Strength of 5 cards of one suit with given ranks
+	 *
+	 * @param rankMask bits for 5 different ranks (bit 0 is 2, bit 12 is A)
+	 *
+	 * @return flush or straight flush strength, 0 if mask doesn't have 5 bits
+	 */
+	static int flushStrength(int rankMask) {
+		return FLUSHES[rankMask];
+	}
+
+	/**
+	 * Strength of 5 cards of mixed suits with 5 different ranks
+	 *
+	 * @param rankMask bits for 5 different ranks (bit 0 is 2, bit 12 is A)
+	 *
+	 * @return high card or straight strength, 0 if mask doesn't have 5 bits
+	 */
+	static int uniqueStrength(int rankMask) {
+		return UNIQUE_RANKS[rankMask];
+	}
+
+	/**
+	 * Strength of 5 cards with at least one repeated rank
+	 *
+	 * @param product product of {@link #PRIMES} for each card's rank
+	 *
+	 * @return strength of paired hand, 0 if product is not a valid paired hand
+	 */
+	static int productStrength(int product) {
+		int slot = hash(product);
+
+		while (PRODUCT_KEYS[slot] != 0) {
+			if (PRODUCT_KEYS[slot] == product) {
+				return PRODUCT_STRENGTHS[slot];
+			}
+			slot = (slot + 1) & (PRODUCT_KEYS.length - 1);
+		}
+		return 0;
+	}
+
+	/*** HELPER METHODS ***/
+	/**
+	 * Ranks 5 packed card codes: flushes and hands with 5 different ranks are one
+	 * array load each, paired hands are a hash lookup on the prime product
+	 */
+	private static int evaluateCodes(int a, int b, int c, int d, int e) {
+		int rankMask = (a | b | c | d | e) >>> 16;
+
+		if ((a & b & c & d & e & 0xF000) != 0 && FLUSHES[rankMask] != 0) {
+			return FLUSHES[rankMask];
+		}
+		if (UNIQUE_RANKS[rankMask] != 0) {
+			return UNIQUE_RANKS[rankMask];
+		}
+		return productStrength((a & 0xFF) * (b & 0xFF) * (c & 0xFF) * (d & 0xFF) * (e & 0xFF));
+	}
+
+	/**
+	 * Checks if 5-bit rank mask is a straight, including 5-4-3-2-A
+	 */
+	private static boolean isStraight(int rankMask) {
+		if (rankMask == 0x100F) {
+			return true;
+		}
+		int low = Integer.numberOfTrailingZeros(rankMask);
+
+		return rankMask == 0x1F << low;
+	}
+
+	/**
+	 * Product of primes for every rank bit set in mask
+	 */
+	private static int maskProduct(int rankMask) {
+		int product = 1;
+
+		for (int rank = 0; rank < 13; rank++) {
+			if ((rankMask & (1 << rank)) != 0) {
+				product *= PRIMES[rank];
+			}
+		}
+		return product;
+	}
+
+	/**
+	 * Stores paired hand strength in open-addressing hash table, only used while
+	 * building tables
+	 */
+	private static void addProduct(int product, int strength) {
+		int slot = hash(product);
+
+		while (PRODUCT_KEYS[slot] != 0) {
+			slot = (slot + 1) & (PRODUCT_KEYS.length - 1);
+		}
+		PRODUCT_KEYS[slot] = product;
+		PRODUCT_STRENGTHS[slot] = (short) strength;
+	}
+
+	/**
+	 * Multiplicative hash of prime product into table slot
+	 */
+	private static int hash(int product) {
+		return (product * 0x9E3779B1) >>> (32 - PRODUCT_TABLE_BITS);
+	}
+
+}
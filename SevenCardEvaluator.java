@@ -0,0 +1,233 @@
+/**
+ * Ranks the best 5-card poker hand out of 5, 6 or 7 cards (Texas Hold'em hole
+ * cards plus board) without trying each 5-card combination. Works on the
+ * CardSet bit layout: the 13 bits of each suit are pulled out with a shift, and
+ * bitwise AND/OR across suits finds pairs, trips and quads for every rank at once
+ *
+ * Class Invariant:
+ * - Returns same strength as {@link PokerHandEvaluator} would give the best 5
+ * cards, so results of both evaluators can be compared directly
+ * - Inside this class rank masks use poker order, bit 0 (2) through bit 12 (A)
+ * - Tables are never changed after class is loaded, and evaluating builds no
+ * objects, so it is safe and cheap to call from any number of threads
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   SevenCardEvaluator
+ * -------------------------------------------------------
+ * - STRAIGHTS : short[]	//static table of best straight (5 bits) in each rank mask
+ * - TOP_FIVE : short[]		//static table of highest 5 bits of each rank mask
+ * -------------------------------------------------------
+ * + evaluate(cards : long) : int
+ * + evaluate(cards : CardSet) : int
+ * + evaluate(hand : Card[]) : int
+ * + evaluate(hand : byte[], offset : int, count : int) : int
+ * - suitRanks(cards : long, suit : int) : int
+ * - prime(rankBit : int) : int
+ * - topBits(rankMask : int, count : int) : int
+ * - maskProduct(rankMask : int) : int
+ * -------------------------------------------------------
+ */
+
+public class SevenCardEvaluator {
+
+	/*** STATIC VARIABLES ***/
+	private static final int RANK_MASKS = 1 << 13;
+	private static final short[] STRAIGHTS = new short[RANK_MASKS];
+	private static final short[] TOP_FIVE = new short[RANK_MASKS];
+
+	static {
+		for (int mask = 0; mask < RANK_MASKS; mask++) {
+			for (int low = 8; low >= 0 && STRAIGHTS[mask] == 0; low--) {
+				if ((mask & (0x1F << low)) == 0x1F << low) {
+					STRAIGHTS[mask] = (short) (0x1F << low);
+				}
+			}
+			if (STRAIGHTS[mask] == 0 && (mask & 0x100F) == 0x100F) {
+				STRAIGHTS[mask] = 0x100F; // 5-4-3-2-A, ace plays low
+			}
+			TOP_FIVE[mask] = (short) topBits(mask, 5);
+		}
+	}
+
+	/*** EVALUATION METHODS ***/
+	/**
+	 * Ranks best 5-card hand in set of 5-7 cards given as CardSet bits (see
+	 * {@link CardSet#getBits()})
+	 *
+	 * @param cards bits for 5-7 different cards
+	 *
+	 * @return strength 1-7462, higher is better (see
+	 *         {@link PokerHandEvaluator#getCategory(int)})
+	 */
+	public static int evaluate(long cards) {
+		int hearts = suitRanks(cards, 0);
+		int diamonds = suitRanks(cards, 1);
+		int clubs = suitRanks(cards, 2);
+		int spades = suitRanks(cards, 3);
+
+		// with 7 cards a flush leaves too few cards for quads or a full house,
+		// so a flush is always the best hand if there is one
+		int flush = Integer.bitCount(hearts) >= 5 ? hearts
+			: Integer.bitCount(diamonds) >= 5 ? diamonds
+			: Integer.bitCount(clubs) >= 5 ? clubs
+			: Integer.bitCount(spades) >= 5 ? spades : 0;
+
+		if (flush != 0) {
+			int straightFlush = STRAIGHTS[flush];
+
+			return PokerHandEvaluator.flushStrength(straightFlush != 0 ? straightFlush : TOP_FIVE[flush]);
+		}
+
+		int any = hearts | diamonds | clubs | spades;
+		int twoOrMore = (hearts & diamonds) | (hearts & clubs) | (hearts & spades) | (diamonds & clubs)
+			| (diamonds & spades) | (clubs & spades);
+		int threeOrMore = (hearts & diamonds & clubs) | (hearts & diamonds & spades) | (hearts & clubs & spades)
+			| (diamonds & clubs & spades);
+		int quads = hearts & diamonds & clubs & spades;
+		int trips = threeOrMore & ~quads;
+		int pairs = twoOrMore & ~threeOrMore;
+
+		if (quads != 0) {
+			int quad = Integer.highestOneBit(quads);
+			int kicker = Integer.highestOneBit(any & ~quad);
+			int quadPrime = prime(quad);
+
+			return PokerHandEvaluator.productStrength(quadPrime * quadPrime * quadPrime * quadPrime * prime(kicker));
+		}
+		if (trips != 0) {
+			int trip = Integer.highestOneBit(trips);
+			int pairedWithTrips = (trips & ~trip) | pairs;
+
+			if (pairedWithTrips != 0) {
+				int tripPrime = prime(trip);
+				int pairPrime = prime(Integer.highestOneBit(pairedWithTrips));
+
+				return PokerHandEvaluator.productStrength(tripPrime * tripPrime * tripPrime * pairPrime * pairPrime);
+			}
+		}
+		if (STRAIGHTS[any] != 0) {
+			return PokerHandEvaluator.uniqueStrength(STRAIGHTS[any]);
+		}
+		if (trips != 0) {
+			int trip = Integer.highestOneBit(trips);
+			int tripPrime = prime(trip);
+
+			return PokerHandEvaluator.productStrength(tripPrime * tripPrime * tripPrime
+				* maskProduct(topBits(any & ~trip, 2)));
+		}
+		if (Integer.bitCount(pairs) >= 2) {
+			int high = Integer.highestOneBit(pairs);
+			int low = Integer.highestOneBit(pairs & ~high);
+			int kicker = Integer.highestOneBit(any & ~high & ~low);
+			int highPrime = prime(high);
+			int lowPrime = prime(low);
+
+			return PokerHandEvaluator.productStrength(highPrime * highPrime * lowPrime * lowPrime * prime(kicker));
+		}
+		if (pairs != 0) {
+			int pairPrime = prime(pairs);
+
+			return PokerHandEvaluator.productStrength(pairPrime * pairPrime * maskProduct(topBits(any & ~pairs, 3)));
+		}
+		return PokerHandEvaluator.uniqueStrength(TOP_FIVE[any]);
+	}
+
+	/**
+	 * Ranks best 5-card hand in set of 5-7 cards. CardSet not changed
+	 *
+	 * @param cards 5-7 different cards
+	 *
+	 * @return strength 1-7462, higher is better
+	 */
+	public static int evaluate(CardSet cards) {
+		return evaluate(cards.getBits());
+	}
+
+	/**
+	 * Ranks best 5-card hand out of 5-7 different Card objects. Array not changed
+	 *
+	 * @param hand 5-7 different cards
+	 *
+	 * @return strength 1-7462, higher is better
+	 */
+	public static int evaluate(Card[] hand) {
+		long cards = 0L;
+
+		for (Card card : hand) {
+			cards |= 1L << card.encode();
+		}
+		return evaluate(cards);
+	}
+
+	/**
+	 * Ranks best 5-card hand out of 5-7 different packed cards in a row (see
+	 * {@link Card#encode()}). Array not changed
+	 *
+	 * @param hand   card numbers 0-51
+	 * @param offset index of first card
+	 * @param count  number of cards, 5-7
+	 *
+	 * @return strength 1-7462, higher is better
+	 */
+	public static int evaluate(byte[] hand, int offset, int count) {
+		long cards = 0L;
+
+		for (int i = offset; i < offset + count; i++) {
+			cards |= 1L << hand[i];
+		}
+		return evaluate(cards);
+	}
+
+	/*** HELPER METHODS ***/
+	/**
+	 * Pulls 13 bits of one suit out of CardSet bits and moves A from lowest bit
+	 * (Card order, A-K) to highest bit (poker order, 2-A)
+	 *
+	 * @param cards CardSet bits
+	 * @param suit  suit position 0-3 in deck order
+	 *
+	 * @return rank mask in poker order
+	 */
+	private static int suitRanks(long cards, int suit) {
+		int ranks = (int) (cards >>> (suit * 13)) & CardSet.SUIT_MASK;
+
+		return (ranks >>> 1) | ((ranks & 1) << 12);
+	}
+
+	/**
+	 * Prime for single rank bit (see {@link PokerHandEvaluator#PRIMES})
+	 */
+	private static int prime(int rankBit) {
+		return PokerHandEvaluator.PRIMES[Integer.numberOfTrailingZeros(rankBit)];
+	}
+
+	/**
+	 * Keeps only the highest count bits of rank mask
+	 */
+	private static int topBits(int rankMask, int count) {
+		while (Integer.bitCount(rankMask) > count) {
+			rankMask &= rankMask - 1;
+		}
+		return rankMask;
+	}
+
+	/**
+	 * Product of primes for every rank bit set in mask
+	 */
+	private static int maskProduct(int rankMask) {
+		int product = 1;
+
+		while (rankMask != 0) {
+			product *= prime(rankMask);
+			rankMask &= rankMask - 1;
+		}
+		return product;
+	}
+
+}
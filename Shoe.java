@@ -0,0 +1,237 @@
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents a casino dealing shoe holding several standard 52-card decks
+ * shuffled together, shared by many seats (threads) dealing at once
+ *
+ * Class Invariant:
+ * - Cards are stored packed as card numbers 0-51 (see {@link Card#encode()}),
+ * one byte per card, deckCount copies of each card
+ * - next is index of next card to deal, always 0 to cards.length; dealing
+ * claims cards by moving next forward with compare-and-set, so no locks are
+ * needed and no card is dealt twice
+ * - next never moves past the end of the shoe, so dealing from an empty shoe
+ * changes nothing no matter how often it's tried
+ * - cutCard is where the cut card sits, once next reaches it the shoe should be
+ * reshuffled before the next round
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   Shoe
+ * -------------------------------------------------------
+ * - cards : byte[]
+ * - next : AtomicInteger
+ * - deckCount : int
+ * - cutCard : int
+ * + DEFAULT_DECKS : int			//static constant with value 6
+ * + DEFAULT_PENETRATION : double	//static constant with value 0.75
+ * -------------------------------------------------------
+ * + Shoe()
+ * + Shoe(deckCount : int, penetration : double)
+ * + shuffle(rng : RandomGenerator) : void
+ * + deal() : Card
+ * + dealOrdinal() : int
+ * + dealN(into : byte[], offset : int, count : int) : int
+ * + needsShuffle() : boolean
+ * + remaining() : int
+ * + getDeckCount() : int
+ * + getSize() : int
+ * + getCutCard() : int
+ * + toString() : String
+ * -------------------------------------------------------
+ */
+
+public class Shoe {
+
+	/*** CONSTANT VARIABLES ***/
+	public static final int DEFAULT_DECKS = 6;
+	public static final double DEFAULT_PENETRATION = 0.75;
+
+	/*** INSTANCE VARIABLES ***/
+	private final byte[] cards;
+	private final AtomicInteger next;
+	private final int deckCount;
+	private final int cutCard;
+
+	/*** CONSTRUCTOR METHODS ***/
+	/**
+	 * Default constructor, builds 6 deck shoe with cut card 75% of the way in.
+	 * Cards start in deck order, shuffle before dealing
+	 */
+	Shoe() {
+		this(DEFAULT_DECKS, DEFAULT_PENETRATION);
+	}
+
+	/**
+	 * Full constructor, builds shoe with given number of decks and cut card
+	 * position. Cards start in deck order, shuffle before dealing
+	 *
+	 * @param deckCount   number of 52-card decks in shoe (1 or more)
+	 * @param penetration fraction of shoe dealt before reshuffle (more than 0, at
+	 *                    most 1)
+	 *
+	 * @throws IllegalArgumentException if deckCount or penetration is not valid
+	 */
+	Shoe(int deckCount, double penetration) {
+		if (deckCount < 1 || !(penetration > 0 && penetration <= 1)) {
+			throw new IllegalArgumentException("Invalid Data, need 1+ decks and penetration in (0, 1], got "
+				+ deckCount + " and " + penetration);
+		}
+
+		this.deckCount = deckCount;
+		this.cards = new byte[deckCount * Card.DECK_SIZE];
+		this.cutCard = (int) (cards.length * penetration);
+		this.next = new AtomicInteger();
+
+		for (int i = 0; i < cards.length; i++) {
+			cards[i] = (byte) (i % Card.DECK_SIZE);
+		}
+	}
+
+	/*** MUTATOR METHODS ***/
+	/**
+	 * Puts all cards back in shoe and shuffles them (see
+	 * {@link Deck#shuffle(RandomGenerator)}). Not safe to call while other threads
+	 * are dealing, call between rounds. Threads that deal afterwards always see the
+	 * shuffled cards, since resetting next publishes the shuffle
+	 *
+	 * @param rng source of randomness
+	 */
+	public void shuffle(RandomGenerator rng) {
+		Deck.shuffle(cards, 0, cards.length, cards.length, rng);
+		next.set(0);
+	}
+
+	/**
+	 * Deals next card from shoe, safe to call from many threads at once
+	 *
+	 * @return shared Card object for next card, or null if shoe is empty
+	 */
+	public Card deal() {
+		int ordinal = this.dealOrdinal();
+
+		if (ordinal < 0) {
+			return null;
+		}
+		return Card.decodeUnchecked(ordinal);
+	}
+
+	/**
+	 * Deals next card from shoe as card number (see {@link Card#encode()}), safe to
+	 * call from many threads at once
+	 *
+	 * @return card number 0-51, or -1 if shoe is empty
+	 */
+	public int dealOrdinal() {
+		int index;
+
+		do {
+			index = next.get();
+			if (index >= cards.length) {
+				return -1;
+			}
+		} while (!next.compareAndSet(index, index + 1));
+
+		return cards[index];
+	}
+
+	/**
+	 * Deals up to count cards in a row into given array as card numbers (see
+	 * {@link Card#encode()}), claimed all at once so no other thread's cards are
+	 * mixed in. Safe to call from many threads at once. Stops early if shoe runs
+	 * out
+	 *
+	 * @param into   array to fill with card numbers 0-51
+	 * @param offset first index of into to fill
+	 * @param count  number of cards to deal
+	 *
+	 * @return number of cards actually dealt
+	 *
+	 * @throws IllegalArgumentException if count is negative
+	 */
+	public int dealN(byte[] into, int offset, int count) {
+		int start;
+		int dealt;
+
+		if (count < 0) {
+			throw new IllegalArgumentException("Invalid Data, can't deal " + count + " cards");
+		}
+
+		do {
+			start = next.get();
+			dealt = Math.min(count, cards.length - start);
+			if (dealt == 0) {
+				return 0;
+			}
+		} while (!next.compareAndSet(start, start + dealt));
+
+		System.arraycopy(cards, start, into, offset, dealt);
+
+		return dealt;
+	}
+
+	/*** ACCESSOR METHODS (GETTERS) ***/
+	/**
+	 * Checks if cut card has been reached, meaning shoe should be shuffled before
+	 * next round
+	 *
+	 * @return true if dealt past cut card, false otherwise
+	 */
+	public boolean needsShuffle() {
+		return next.get() >= cutCard;
+	}
+
+	/**
+	 * Access number of cards not yet dealt
+	 *
+	 * @return count of cards left in shoe
+	 */
+	public int remaining() {
+		return cards.length - next.get();
+	}
+
+	/**
+	 * Access number of 52-card decks in shoe
+	 *
+	 * @return deck count
+	 */
+	public int getDeckCount() {
+		return deckCount;
+	}
+
+	/**
+	 * Access total number of cards in shoe
+	 *
+	 * @return deck count * 52
+	 */
+	public int getSize() {
+		return cards.length;
+	}
+
+	/**
+	 * Access position of cut card (number of cards dealt before reshuffle)
+	 *
+	 * @return cut card index
+	 */
+	public int getCutCard() {
+		return cutCard;
+	}
+
+	/*** OTHER REQUIRED METHODS ***/
+	/**
+	 * String summary of shoe, no newline character at end of String
+	 *
+	 * @return String containing deck count, cards left, and cut card position
+	 */
+	public String toString() {
+		return deckCount + " deck shoe, " + this.remaining() + " of " + cards.length + " cards left, cut card at "
+			+ cutCard;
+	}
+
+}
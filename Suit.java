@@ -0,0 +1,122 @@
+/**
+ * The four card suits in deck order (♥ ♦ ♣ ♠), each with its unicode char and
+ * a dense index 0-3, so per-suit data (flush counts, suit histograms, suit
+ * masks) can be kept in plain arrays instead of a switch or map on the char
+ *
+ * Class Invariant:
+ * - Index of each suit is its position in deck order and equals ordinal(), so
+ * it matches Card card numbers (card number / 13 is suit index)
+ * - Symbol of each suit is the matching Card constant (Card.HEART, etc.)
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   Suit (enum)
+ * -------------------------------------------------------
+ * + HEART, DIAMOND, CLUB, SPADE
+ * + COUNT : int			//static constant with value 4
+ * - BY_INDEX : Suit[]		//static table of suits in deck order
+ * - symbol : char
+ * -------------------------------------------------------
+ * - Suit(symbol : char)
+ * + getSymbol() : char
+ * + getIndex() : int
+ * + fromSymbol(symbol : char) : Suit
+ * + fromIndex(index : int) : Suit
+ * + of(card : Card) : Suit
+ * -------------------------------------------------------
+ */
+
+public enum Suit {
+
+	HEART(Card.HEART), DIAMOND(Card.DIAMOND), CLUB(Card.CLUB), SPADE(Card.SPADE);
+
+	/*** CONSTANT VARIABLES ***/
+	public static final int COUNT = 4;
+
+	// values() copies its array on every call, so keep one copy for lookups
+	private static final Suit[] BY_INDEX = values();
+
+	/*** INSTANCE VARIABLES ***/
+	private final char symbol;
+
+	/*** CONSTRUCTOR METHODS ***/
+	/**
+	 * Full constructor, one per suit
+	 *
+	 * @param symbol unicode char for suit
+	 */
+	Suit(char symbol) {
+		this.symbol = symbol;
+	}
+
+	/*** ACCESSOR METHODS (GETTERS) ***/
+	/**
+	 * Access unicode char for suit, same as Card constant (ex: Card.HEART)
+	 *
+	 * @return suit symbol
+	 */
+	public char getSymbol() {
+		return symbol;
+	}
+
+	/**
+	 * Access position of suit in deck order, for indexing per-suit arrays
+	 *
+	 * @return index 0-3 (♥ 0, ♦ 1, ♣ 2, ♠ 3)
+	 */
+	public int getIndex() {
+		return ordinal();
+	}
+
+	/*** LOOKUP METHODS ***/
+	/**
+	 * Access suit for unicode char, a table lookup (see {@link Card#suitIndex(char)})
+	 *
+	 * @param symbol unicode char for suit
+	 *
+	 * @return matching Suit
+	 *
+	 * @throws IllegalArgumentException if symbol is not one of the four suits
+	 */
+	public static Suit fromSymbol(char symbol) {
+		int index = Card.suitIndex(symbol);
+
+		if (index < 0) {
+			throw new IllegalArgumentException("Invalid Data, '" + symbol + "' is not a suit");
+		}
+		return BY_INDEX[index];
+	}
+
+	/**
+	 * Access suit at position in deck order
+	 *
+	 * @param index suit index 0-3
+	 *
+	 * @return matching Suit
+	 *
+	 * @throws IllegalArgumentException if index is not 0-3
+	 */
+	public static Suit fromIndex(int index) {
+		if (index < 0 || index >= COUNT) {
+			throw new IllegalArgumentException("Invalid Data, suit index " + index + " is not 0-3");
+		}
+		return BY_INDEX[index];
+	}
+
+	/**
+	 * Access suit of card. Card object not changed
+	 *
+	 * @param card Card to check
+	 *
+	 * @return Suit of card
+	 */
+	public static Suit of(Card card) {
+		return BY_INDEX[card.getSuitIndex()];
+	}
+
+}
@@ -0,0 +1,163 @@
+import java.util.SplittableRandom;
+
+import benchmarks.CardOperations;
+
+/**
+ * Default package side of {@link CardOperations}: calls the Card classes
+ * directly so JMH benchmarks in a named package can reach them
+ *
+ * Class Invariant:
+ * - All inputs are built once in the constructor, so each method does only the
+ * operation being measured (plus an array lookup to pick its input)
+ * - Inputs are indexed by i & 63, i & 4095 or i % 52, covering every card
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   CardOperationsImpl
+ * -------------------------------------------------------
+ * - cards : Card[]
+ * - others : Card[]
+ * - values : int[]
+ * - suits : char[]
+ * - wireValues : int[]
+ * - wireSuits : char[]
+ * - mutable : Card
+ * - deck : Deck
+ * - random : SplittableRandom
+ * -------------------------------------------------------
+ * + CardOperationsImpl()
+ * + (all CardOperations methods)
+ * - isValidChain(value : int, suit : char) : boolean
+ * -------------------------------------------------------
+ */
+
+public class CardOperationsImpl implements CardOperations {
+
+	/*** INSTANCE VARIABLES ***/
+	private final Card[] cards = new Card[Card.DECK_SIZE];
+	private final Card[] others = new Card[Card.DECK_SIZE];
+	private final int[] values = new int[64];
+	private final char[] suits = new char[64];
+	private final int[] wireValues = new int[4096];
+	private final char[] wireSuits = new char[wireValues.length];
+	private final Card mutable = new Card();
+	private final Deck deck = new Deck();
+	private final SplittableRandom random = new SplittableRandom(42);
+
+	/*** CONSTRUCTOR METHODS ***/
+	/**
+	 * Builds inputs: every card as its own Card object, the same cards in another
+	 * order for equals(), 64 value/suit pairs for setAll(), about 1 in 4 of them
+	 * invalid, and 4096 for validation: values 0-14 and suits from the 9 chars
+	 * starting at Card.SPADE, so both bad values and near-miss suits show up
+	 */
+	public CardOperationsImpl() {
+		char[] suitChoices = { Card.HEART, Card.DIAMOND, Card.CLUB, Card.SPADE, 'H' };
+		SplittableRandom inputs = new SplittableRandom(7);
+
+		for (int i = 0; i < cards.length; i++) {
+			cards[i] = new Card(Card.decodeValue(i), Card.decodeSuit(i));
+			others[i] = new Card(Card.decodeValue((i * 7) % Card.DECK_SIZE), Card.decodeSuit((i * 7) % Card.DECK_SIZE));
+		}
+		for (int i = 0; i < values.length; i++) {
+			values[i] = inputs.nextInt(0, 15);
+			suits[i] = suitChoices[inputs.nextInt(suitChoices.length)];
+		}
+		for (int i = 0; i < wireValues.length; i++) {
+			wireValues[i] = inputs.nextInt(0, 15);
+			wireSuits[i] = (char) (Card.SPADE + inputs.nextInt(9));
+		}
+	}
+
+	/*** CARD OPERATIONS ***/
+	@Override
+	public Object newCard(int i) {
+		return new Card(Card.decodeValue(i % Card.DECK_SIZE), Card.decodeSuit(i % Card.DECK_SIZE));
+	}
+
+	@Override
+	public Object cardOf(int i) {
+		return Card.of(Card.decodeValue(i % Card.DECK_SIZE), Card.decodeSuit(i % Card.DECK_SIZE));
+	}
+
+	@Override
+	public boolean setAll(int i) {
+		return mutable.setAll(values[i & 63], suits[i & 63]);
+	}
+
+	@Override
+	public String cardToString(int i) {
+		return cards[i % Card.DECK_SIZE].toString();
+	}
+
+	@Override
+	public String printValue(int i) {
+		return cards[i % Card.DECK_SIZE].getPrintValue();
+	}
+
+	@Override
+	public String printCard() {
+		return mutable.getPrintCard();
+	}
+
+	@Override
+	public boolean equalsCard(int i) {
+		return cards[i % Card.DECK_SIZE].equals(others[i % Card.DECK_SIZE]);
+	}
+
+	@Override
+	public boolean validateChain(int i) {
+		return isValidChain(wireValues[i & 4095], wireSuits[i & 4095]);
+	}
+
+	@Override
+	public boolean validateBitmap(int i) {
+		return Card.isValidCard(wireValues[i & 4095], wireSuits[i & 4095]);
+	}
+
+	/*** DECK OPERATIONS ***/
+	@Override
+	public int shuffleDeck() {
+		deck.reset();
+		deck.shuffle(random);
+		return deck.dealOrdinal();
+	}
+
+	@Override
+	public int dealDeck() {
+		int total = 0;
+
+		deck.reset();
+		for (int i = 0; i < Card.DECK_SIZE; i++) {
+			total += deck.deal().getValue();
+		}
+		return total;
+	}
+
+	@Override
+	public int dealDeckOrdinals() {
+		int total = 0;
+
+		deck.reset();
+		for (int i = 0; i < Card.DECK_SIZE; i++) {
+			total += deck.dealOrdinal();
+		}
+		return total;
+	}
+
+	/*** HELPER METHODS ***/
+	/**
+	 * Same checks as Card's setters, written out here since they are inlined
+	 * there rather than exposed
+	 */
+	private static boolean isValidChain(int value, char suit) {
+		return (suit == Card.HEART || suit == Card.DIAMOND || suit == Card.SPADE || suit == Card.CLUB)
+			&& (value >= 1 && value <= 13);
+	}
+
+}
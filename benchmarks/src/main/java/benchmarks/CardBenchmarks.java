@@ -0,0 +1,114 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for Card and Deck hot paths: construction, setAll()
+ * validation, toString()/getPrintValue(), getPrintCard(), equals(), and deck
+ * shuffle/deal, plus validateChain/validateBitmap, which compare the setters'
+ * == checks with Card.isValidCard() on the same inputs. Each benchmark runs in
+ * its own forked JVM and returns its result so JMH's blackhole keeps the work
+ * from being removed as dead code
+ *
+ * Cards are reached through {@link CardOperations}, since the Card classes are
+ * in the default package and JMH benchmarks can't be. See {@link RegressionCheck}
+ * for comparing results against the stored baseline
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class CardBenchmarks {
+
+	/*** INSTANCE VARIABLES ***/
+	private CardOperations operations;
+	// moves every call on to next input
+	private int index;
+
+	/*** SETUP METHODS ***/
+	@Setup(Level.Trial)
+	public void setUp() {
+		operations = CardOperations.load();
+	}
+
+	/*** CARD BENCHMARKS ***/
+	@Benchmark
+	public Object newCard() {
+		return operations.newCard(index++ & Integer.MAX_VALUE);
+	}
+
+	@Benchmark
+	public Object cardOf() {
+		return operations.cardOf(index++ & Integer.MAX_VALUE);
+	}
+
+	@Benchmark
+	public boolean setAll() {
+		return operations.setAll(index++);
+	}
+
+	@Benchmark
+	public String cardToString() {
+		return operations.cardToString(index++ & Integer.MAX_VALUE);
+	}
+
+	@Benchmark
+	public String printValue() {
+		return operations.printValue(index++ & Integer.MAX_VALUE);
+	}
+
+	@Benchmark
+	public String printCard() {
+		return operations.printCard();
+	}
+
+	@Benchmark
+	public boolean equalsCard() {
+		return operations.equalsCard(index++ & Integer.MAX_VALUE);
+	}
+
+	@Benchmark
+	public boolean validateChain() {
+		return operations.validateChain(index++);
+	}
+
+	@Benchmark
+	public boolean validateBitmap() {
+		return operations.validateBitmap(index++);
+	}
+
+	/*** DECK BENCHMARKS ***/
+	@Benchmark
+	public int shuffleDeck() {
+		return operations.shuffleDeck();
+	}
+
+	@Benchmark
+	public int dealDeck() {
+		return operations.dealDeck();
+	}
+
+	@Benchmark
+	public int dealDeckOrdinals() {
+		return operations.dealDeckOrdinals();
+	}
+
+}
@@ -0,0 +1,123 @@
+package benchmarks;
+
+/**
+ * One call per benchmarked operation on the Card classes. The Card classes
+ * live in the default package, which code in a named package (like JMH
+ * benchmarks, which can't be in the default package) can't import, so
+ * benchmarks call through this interface instead. The only implementation
+ * (CardOperationsImpl, default package) is loaded once by name, so the JIT
+ * sees one receiver type and inlines every call
+ *
+ * Methods taking i use it to pick among many inputs (ex: i % 52 for a card), so
+ * one fixed input can't be constant-folded away
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   <<interface>> CardOperations
+ * -------------------------------------------------------
+ * + load() : CardOperations		//static, loads CardOperationsImpl
+ * + newCard(i : int) : Object
+ * + cardOf(i : int) : Object
+ * + setAll(i : int) : boolean
+ * + cardToString(i : int) : String
+ * + printValue(i : int) : String
+ * + printCard() : String
+ * + equalsCard(i : int) : boolean
+ * + validateChain(i : int) : boolean
+ * + validateBitmap(i : int) : boolean
+ * + shuffleDeck() : int
+ * + dealDeck() : int
+ * + dealDeckOrdinals() : int
+ * -------------------------------------------------------
+ */
+
+public interface CardOperations {
+
+	/**
+	 * Loads default package implementation by name
+	 *
+	 * @return new CardOperationsImpl
+	 *
+	 * @throws IllegalStateException if implementation isn't on class path
+	 */
+	static CardOperations load() {
+		try {
+			return (CardOperations) Class.forName("CardOperationsImpl").getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("CardOperationsImpl not found on class path", e);
+		}
+	}
+
+	/**
+	 * Builds new Card with full constructor
+	 */
+	Object newCard(int i);
+
+	/**
+	 * Looks up pooled Card with Card.of()
+	 */
+	Object cardOf(int i);
+
+	/**
+	 * Calls setAll() on a reused Card, with valid and invalid input mixed
+	 */
+	boolean setAll(int i);
+
+	/**
+	 * Calls toString() on one of 52 cards
+	 */
+	String cardToString(int i);
+
+	/**
+	 * Calls getPrintValue() on one of 52 cards
+	 */
+	String printValue(int i);
+
+	/**
+	 * Calls getPrintCard()
+	 */
+	String printCard();
+
+	/**
+	 * Calls equals(Card) on two of 52 cards, equal 1 time in 52
+	 */
+	boolean equalsCard(int i);
+
+	/**
+	 * Checks one of 4096 wire value/suit pairs with the == compares the setters
+	 * use, about 3 in 5 of them invalid
+	 */
+	boolean validateChain(int i);
+
+	/**
+	 * Checks the same pair as validateChain() with Card.isValidCard() bitmaps
+	 */
+	boolean validateBitmap(int i);
+
+	/**
+	 * Shuffles whole deck in place
+	 *
+	 * @return top card number after shuffle
+	 */
+	int shuffleDeck();
+
+	/**
+	 * Resets deck and deals all 52 cards with deal()
+	 *
+	 * @return sum of values dealt
+	 */
+	int dealDeck();
+
+	/**
+	 * Resets deck and deals all 52 cards with dealOrdinal()
+	 *
+	 * @return sum of card numbers dealt
+	 */
+	int dealDeckOrdinals();
+
+}
@@ -0,0 +1,179 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs {@link CardBenchmarks} and compares each score (ns/op) with the stored
+ * baseline, so a slowdown in a hot path fails with numbers instead of going
+ * unnoticed. Exits with status 1 if any benchmark is more than the tolerance
+ * slower than its baseline, or has no baseline yet
+ *
+ * Scores are absolute ns/op, so a baseline only means something on the machine
+ * that recorded it. It is not kept in version control: the CI host that runs
+ * this gate records benchmarks/baseline.properties with --update (and again
+ * after an intended change, or on new hardware), and the gate runs only there.
+ * On a developer machine, record a local baseline before a change and compare
+ * after it
+ *
+ * Usage (from repository root, after mvn package):
+ * java -cp benchmarks/target/benchmarks.jar benchmarks.RegressionCheck [--update]
+ * [--tolerance=0.25] [benchmark regex]
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+/*
+ * UML CLASS DIAGRAM:
+ * -------------------------------------------------------
+ *   RegressionCheck
+ * -------------------------------------------------------
+ * - BASELINE : Path			//static constant, benchmarks/baseline.properties
+ * - DEFAULT_TOLERANCE : double	//static constant with value 0.25
+ * -------------------------------------------------------
+ * + main(args : String[]) : void
+ * - run(include : String) : Map<String, Double>
+ * - load(file : Path) : Properties
+ * - save(scores : Map<String, Double>, file : Path) : void
+ * -------------------------------------------------------
+ */
+
+public class RegressionCheck {
+
+	/*** CONSTANT VARIABLES ***/
+	private static final Path BASELINE = Paths.get("benchmarks", "baseline.properties");
+	private static final double DEFAULT_TOLERANCE = 0.25;
+
+	public static void main(String[] args) throws IOException, RunnerException {
+		boolean update = false;
+		double tolerance = DEFAULT_TOLERANCE;
+		String include = CardBenchmarks.class.getSimpleName();
+		Map<String, Double> scores;
+		Properties baseline;
+		int failures = 0;
+
+		for (String arg : args) {
+			if (arg.equals("--update")) {
+				update = true;
+			} else if (arg.startsWith("--tolerance=")) {
+				tolerance = Double.parseDouble(arg.substring("--tolerance=".length()));
+			} else {
+				include = arg;
+			}
+		}
+
+		scores = run(include);
+		if (update) {
+			Properties merged = load(BASELINE);
+			Map<String, Double> all = new TreeMap<>();
+
+			for (String name : merged.stringPropertyNames()) {
+				all.put(name, Double.parseDouble(merged.getProperty(name)));
+			}
+			all.putAll(scores);
+			save(all, BASELINE);
+			System.out.println("Saved " + scores.size() + " baseline scores to " + BASELINE);
+			return;
+		}
+
+		if (!Files.exists(BASELINE)) {
+			System.out.println("No baseline at " + BASELINE + ", record one on this machine with --update");
+			System.exit(1);
+		}
+		baseline = load(BASELINE);
+		System.out.printf("%-36s %12s %12s %8s%n", "Benchmark", "Baseline", "Now (ns/op)", "Change");
+		for (Map.Entry<String, Double> entry : scores.entrySet()) {
+			String stored = baseline.getProperty(entry.getKey());
+
+			if (stored == null) {
+				System.out.printf("%-36s %12s %12.3f %8s  NO BASELINE%n", entry.getKey(), "-", entry.getValue(), "-");
+				failures++;
+				continue;
+			}
+
+			double base = Double.parseDouble(stored);
+			double change = entry.getValue() / base - 1;
+			boolean slower = change > tolerance;
+
+			System.out.printf("%-36s %12.3f %12.3f %+7.1f%%%s%n", entry.getKey(), base, entry.getValue(), 100 * change,
+				slower ? "  REGRESSION" : "");
+			if (slower) {
+				failures++;
+			}
+		}
+
+		if (failures > 0) {
+			System.out.println(failures + " benchmark(s) more than " + Math.round(100 * tolerance)
+				+ "% slower than baseline or without one");
+			System.exit(1);
+		}
+		System.out.println("All benchmarks within " + Math.round(100 * tolerance) + "% of baseline");
+	}
+
+	/*** HELPER METHODS ***/
+	/**
+	 * Runs matching benchmarks with their annotated fork/warmup settings
+	 *
+	 * @param include regex of benchmarks to run
+	 *
+	 * @return score in ns/op by benchmark name (class.method), sorted by name
+	 */
+	private static Map<String, Double> run(String include) throws RunnerException {
+		Options options = new OptionsBuilder().include(include).build();
+		Map<String, Double> scores = new TreeMap<>();
+
+		for (RunResult result : new Runner(options).run()) {
+			String benchmark = result.getParams().getBenchmark();
+			String name = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+
+			scores.put(name, result.getPrimaryResult().getScore());
+		}
+		return scores;
+	}
+
+	/**
+	 * Reads baseline scores, empty if file doesn't exist yet
+	 */
+	private static Properties load(Path file) throws IOException {
+		Properties properties = new Properties();
+
+		if (Files.exists(file)) {
+			try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+				properties.load(reader);
+			}
+		}
+		return properties;
+	}
+
+	/**
+	 * Writes baseline scores one per line, sorted by name. Scores use '.' as the
+	 * decimal point whatever the default locale, so load() can parse them back
+	 */
+	private static void save(Map<String, Double> scores, Path file) throws IOException {
+		try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			writer.write("# JMH baseline, ns/op, written by benchmarks.RegressionCheck --update\n");
+			writer.write("# " + System.getProperty("java.vm.name") + " " + System.getProperty("java.version") + ", "
+				+ Runtime.getRuntime().availableProcessors() + " cpu(s)\n");
+			for (Map.Entry<String, Double> entry : scores.entrySet()) {
+				writer.write(entry.getKey() + "=" + String.format(Locale.ROOT, "%.3f", entry.getValue()) + "\n");
+			}
+		}
+	}
+
+}
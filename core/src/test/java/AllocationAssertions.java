@@ -0,0 +1,67 @@
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Shared assertion for tests that check a hot method allocates no memory once
+ * the JIT has compiled it, counted with the JVM's per-thread allocated bytes
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+final class AllocationAssertions {
+
+	/*** CONSTANT VARIABLES ***/
+	private static final int WARMUP_ROUNDS = 5;
+	private static final int WARMUP_CALLS = 50_000;
+	private static final int MEASURED_CALLS = 100_000;
+	// room for the allocation counter itself, far less than 1 object per call
+	private static final long ALLOCATION_SLACK = 1024;
+
+	/*** STATIC VARIABLES ***/
+	// results are folded in here so the JIT can't remove measured loops as dead code
+	private static long sink;
+
+	/**
+	 * One measured loop
+	 */
+	interface Workload {
+		long run(int calls);
+	}
+
+	private AllocationAssertions() {
+	}
+
+	/**
+	 * Warms workload up so the JIT compiles it, then asserts it allocates no
+	 * memory on this thread. Test is skipped if the JVM can't count allocated
+	 * bytes
+	 *
+	 * @param name     method being checked
+	 * @param workload loop calling method
+	 */
+	static void assertNoAllocation(String name, Workload workload) {
+		com.sun.management.ThreadMXBean threads = null;
+		long before;
+		long allocated;
+
+		if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+			threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		}
+		assumeTrue(threads != null && threads.isThreadAllocatedMemorySupported()
+			&& threads.isThreadAllocatedMemoryEnabled(), "JVM can't count allocated bytes");
+
+		for (int i = 0; i < WARMUP_ROUNDS; i++) {
+			sink += workload.run(WARMUP_CALLS);
+		}
+		before = threads.getCurrentThreadAllocatedBytes();
+		sink += workload.run(MEASURED_CALLS);
+		allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+		assertTrue(allocated <= ALLOCATION_SLACK,
+			name + " should not allocate but allocated " + allocated + " bytes over " + MEASURED_CALLS + " calls");
+	}
+
+}
@@ -0,0 +1,57 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for BasicStrategy: known cells of the strategy card, and what double
+ * and split fall back to when they aren't allowed
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+class BasicStrategyTest {
+
+	@Test
+	void knownCells() {
+		assertPlay(BasicStrategy.DOUBLE, hand(1, 7), 3);
+		assertPlay(BasicStrategy.HIT, hand(1, 7), 9);
+		assertPlay(BasicStrategy.STAND, hand(1, 7), 7);
+		assertPlay(BasicStrategy.STAND, hand(9, 9), 7);
+		assertPlay(BasicStrategy.SPLIT, hand(9, 9), 6);
+		assertPlay(BasicStrategy.HIT, hand(8, 3), 1);
+		assertPlay(BasicStrategy.DOUBLE, hand(6, 5), 13);
+		assertPlay(BasicStrategy.STAND, hand(10, 2), 4);
+		assertPlay(BasicStrategy.HIT, hand(10, 6), 10);
+		assertPlay(BasicStrategy.SPLIT, hand(8, 8), 1);
+		assertPlay(BasicStrategy.DOUBLE, hand(5, 5), 6);
+		assertPlay(BasicStrategy.STAND, hand(13, 12), 6);
+	}
+
+	// double falls back to hit or stand when not allowed, pairs play as totals
+	@Test
+	void fallbacks() {
+		assertEquals(BasicStrategy.STAND, BasicStrategy.decide(hand(1, 7), 3, false, true));
+		assertEquals(BasicStrategy.HIT, BasicStrategy.decide(hand(8, 3), 6, false, true));
+		assertEquals(BasicStrategy.HIT, BasicStrategy.decide(hand(8, 8), 10, true, false));
+		assertEquals(BasicStrategy.STAND, BasicStrategy.decide(hand(7, 7, 7), 10));
+	}
+
+	@Test
+	void getActionName() {
+		assertEquals("Double", BasicStrategy.getActionName(BasicStrategy.DOUBLE));
+	}
+
+	/**
+	 * Checks basic strategy play for first 2 cards (double and split allowed)
+	 */
+	private static void assertPlay(int expected, int hand, int dealerValue) {
+		assertEquals(BasicStrategy.getActionName(expected),
+			BasicStrategy.getActionName(BasicStrategy.decide(hand, dealerValue)), "vs " + dealerValue);
+	}
+
+	private static int hand(int... values) {
+		return BlackjackScorerTest.hand(values);
+	}
+
+}
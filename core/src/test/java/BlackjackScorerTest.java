@@ -0,0 +1,75 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for BlackjackScorer's packed hands: soft and hard totals, bust,
+ * naturals and pairs
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+class BlackjackScorerTest {
+
+	// A counts 11 until that would bust, then 1
+	@Test
+	void aceCountsElevenUntilBust() {
+		assertEquals(17, BlackjackScorer.getTotal(hand(1, 6)));
+		assertTrue(BlackjackScorer.isSoft(hand(1, 6)));
+		assertEquals(17, BlackjackScorer.getTotal(hand(1, 6, 10)));
+		assertFalse(BlackjackScorer.isSoft(hand(1, 6, 10)));
+		assertEquals(21, BlackjackScorer.getTotal(hand(1, 1, 9)));
+		assertTrue(BlackjackScorer.isSoft(hand(1, 1, 9)));
+		assertEquals(20, BlackjackScorer.getTotal(hand(13, 12)));
+		assertEquals(11, BlackjackScorer.getHardTotal(hand(1, 12)));
+	}
+
+	@Test
+	void bust() {
+		assertTrue(BlackjackScorer.isBust(hand(10, 6, 13)));
+		assertFalse(BlackjackScorer.isBust(hand(10, 1, 13)));
+	}
+
+	// natural only on first 2 cards of a hand that wasn't split
+	@Test
+	void blackjack() {
+		int split = BlackjackScorer.addCard(BlackjackScorer.addCard(BlackjackScorer.SPLIT_HAND, 1), 13);
+
+		assertTrue(BlackjackScorer.isBlackjack(hand(1, 13)));
+		assertFalse(BlackjackScorer.isBlackjack(hand(7, 7, 7)));
+		assertEquals(21, BlackjackScorer.getTotal(split));
+		assertTrue(BlackjackScorer.isSplit(split));
+		assertFalse(BlackjackScorer.isBlackjack(split));
+	}
+
+	// pairs by points, so 10 and K pair up
+	@Test
+	void pairs() {
+		assertTrue(BlackjackScorer.isPair(hand(8, 8)));
+		assertEquals(8, BlackjackScorer.getFirstPoints(hand(8, 8)));
+		assertTrue(BlackjackScorer.isPair(hand(10, 13)));
+		assertFalse(BlackjackScorer.isPair(hand(8, 8, 2)));
+		assertFalse(BlackjackScorer.isPair(hand(9, 8)));
+	}
+
+	@Test
+	void scoreMatchesAddCard() {
+		assertEquals(hand(1, 6), BlackjackScorer.score(new Card[] { Card.of(1, Card.HEART), Card.of(6, Card.CLUB) }));
+	}
+
+	/**
+	 * Packs blackjack hand from card values 1-13, in order dealt
+	 */
+	static int hand(int... values) {
+		int hand = BlackjackScorer.EMPTY_HAND;
+
+		for (int value : values) {
+			hand = BlackjackScorer.addCard(hand, value);
+		}
+		return hand;
+	}
+
+}
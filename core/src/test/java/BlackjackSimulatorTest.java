@@ -0,0 +1,38 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for BlackjackSimulator: balanced systems bucket by true count,
+ * unbalanced ones by running count, and the seed alone decides the hands
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+class BlackjackSimulatorTest {
+
+	private final CountHistogram ko = new BlackjackSimulator(3, 6, 0.75, CountingSystem.KO).simulate(20, 1);
+	private final CountHistogram hiLo = new BlackjackSimulator(3, 6, 0.75, CountingSystem.HI_LO).simulate(20, 1);
+
+	@Test
+	void balancedBucketsByTrueCount() {
+		assertFalse(hiLo.isRunningCount());
+		assertEquals(CountHistogram.MIN_TRUE_COUNT, hiLo.getMinCount());
+	}
+
+	@Test
+	void unbalancedBucketsByRunningCount() {
+		assertTrue(ko.isRunningCount());
+		assertEquals(-20 + CountHistogram.MIN_RUNNING_COUNT_OFFSET, ko.getMinCount());
+		assertEquals(CountHistogram.MAX_RUNNING_COUNT, ko.getMaxCount());
+	}
+
+	@Test
+	void sameSeedPlaysSameHands() {
+		assertEquals(hiLo.getTotalHands(), ko.getTotalHands());
+	}
+
+}
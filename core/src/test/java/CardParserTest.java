@@ -0,0 +1,106 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for CardParser: every card in both text formats, as text and as UTF-8,
+ * hands with mixed separators, bad input, and that parsing into a reused array
+ * doesn't allocate
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+class CardParserTest {
+
+	private static final String HAND = "Ah 10\u2666, kS\tT\u2663 Q \u2660";
+	private static final byte[] HAND_BYTES = HAND.getBytes(StandardCharsets.UTF_8);
+	private static final byte[] EXPECTED = { 0, 22, 51, 35, 50 };
+
+	@Test
+	void parseOrdinalOfEveryCard() {
+		for (int ordinal = 0; ordinal < Card.DECK_SIZE; ordinal++) {
+			String unicode = Card.decode(ordinal).toString();
+			String ascii = Card.decode(ordinal).getPrintValue() + "hdcs".charAt(ordinal / 13);
+			byte[] utf8 = unicode.getBytes(StandardCharsets.UTF_8);
+
+			assertEquals(ordinal, CardParser.parseOrdinal(unicode), unicode);
+			assertEquals(ordinal, CardParser.parseOrdinal(ascii), ascii);
+			assertEquals(ordinal, CardParser.parseOrdinal(utf8, 0, utf8.length), "UTF-8 " + unicode);
+		}
+		assertEquals(Card.encode(10, Card.DIAMOND), CardParser.parseOrdinal("td"));
+		assertSame(Card.of(12, Card.CLUB), CardParser.parseCard("Q\u2663"));
+	}
+
+	@Test
+	void parseCardsWithMixedSeparators() {
+		byte[] out = new byte[8];
+
+		assertEquals(EXPECTED.length, CardParser.parseCards(HAND, 0, HAND.length(), out, 1));
+		assertArrayEquals(EXPECTED, Arrays.copyOfRange(out, 1, 1 + EXPECTED.length));
+		assertEquals(EXPECTED.length, CardParser.parseCards(HAND_BYTES, 0, HAND_BYTES.length, out, 0));
+		assertArrayEquals(EXPECTED, Arrays.copyOf(out, EXPECTED.length));
+		assertEquals(2, CardParser.parseCards("AhKd", 0, 4, out, 0));
+		assertEquals(0, CardParser.parseCards(" , ", 0, 3, out, 0));
+	}
+
+	@Test
+	void parseCardsFromByteBufferLeavesPositionAlone() {
+		byte[] out = new byte[8];
+
+		for (ByteBuffer buffer : new ByteBuffer[] { ByteBuffer.wrap(HAND_BYTES),
+			ByteBuffer.allocateDirect(HAND_BYTES.length).put(HAND_BYTES) }) {
+			int position = buffer.position();
+
+			assertEquals(EXPECTED.length, CardParser.parseCards(buffer, 0, HAND_BYTES.length, out, 0));
+			assertArrayEquals(EXPECTED, Arrays.copyOf(out, EXPECTED.length));
+			assertEquals(position, buffer.position());
+			assertEquals(-1, CardParser.parseCards(buffer, 0, HAND_BYTES.length - 1, out, 0),
+				"cut off UTF-8 suit in " + (buffer.isDirect() ? "direct" : "heap") + " ByteBuffer");
+		}
+	}
+
+	@Test
+	void invalidData() {
+		String[] bad = { "", "A", "1h", "11h", "0h", "Ax", "A  h", "Ah ", " Ah", "10", "Z\u2665", "A\u2661", "AhKd" };
+		byte[] out = new byte[8];
+
+		for (String text : bad) {
+			byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+
+			assertEquals(-1, CardParser.parseOrdinal(text), text);
+			assertEquals(-1, CardParser.parseOrdinal(utf8, 0, utf8.length), "UTF-8 " + text);
+		}
+		assertEquals(-1, CardParser.parseCards("Ah Kx", 0, 5, out, 0));
+		assertEquals(-1, CardParser.parseCards(HAND_BYTES, 0, HAND_BYTES.length - 1, out, 0));
+		assertEquals(-1, CardParser.parseCards(HAND_BYTES, 0, HAND_BYTES.length, new byte[2], 0));
+		assertThrows(IllegalArgumentException.class, () -> CardParser.parseCard("1h"));
+	}
+
+	@Test
+	void parseCardsDoesNotAllocate() {
+		String text = "Ah 10\u2666 kS";
+		byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+		// byte[] overloads wrap the array, which only the JIT can remove, so the
+		// allocation-free path for bytes is a ByteBuffer wrapped once
+		ByteBuffer utf8Buffer = ByteBuffer.wrap(utf8);
+		byte[] parsed = new byte[3];
+
+		AllocationAssertions.assertNoAllocation("CardParser.parseCards()", calls -> {
+			long total = 0;
+			for (int i = 0; i < calls; i++) {
+				total += CardParser.parseCards(text, 0, text.length(), parsed, 0);
+				total += CardParser.parseCards(utf8Buffer, 0, utf8.length, parsed, 0);
+			}
+			return total;
+		});
+	}
+
+}
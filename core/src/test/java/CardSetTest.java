@@ -0,0 +1,50 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for CardSet's per-suit views, and that counting suits into a reused
+ * array doesn't allocate
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+class CardSetTest {
+
+	@Test
+	void suitMasksAndCounts() {
+		CardSet hand = new CardSet();
+		int[] counts = { 9, 9, 9, 9 };
+
+		hand.add(Card.of(1, Card.CLUB));
+		hand.add(Card.of(13, Card.CLUB));
+		hand.add(Card.of(5, Card.SPADE));
+
+		assertEquals(1 | 1 << 12, hand.getSuitMask(Suit.CLUB));
+		assertEquals(hand.getSuitMask(Suit.CLUB), hand.getSuitMask(Card.CLUB));
+		assertArrayEquals(new int[] { 0, 0, 2, 1 }, hand.getSuitCounts());
+		assertSame(counts, hand.getSuitCounts(counts));
+		assertArrayEquals(new int[] { 0, 0, 2, 1 }, counts);
+	}
+
+	@Test
+	void getSuitCountsIntoArrayDoesNotAllocate() {
+		CardSet flushDraw = new CardSet();
+		int[] suitCounts = new int[Suit.COUNT];
+
+		for (int value = 1; value <= 4; value++) {
+			flushDraw.add(Card.of(value, Card.SPADE));
+		}
+		AllocationAssertions.assertNoAllocation("CardSet.getSuitCounts(int[])", calls -> {
+			long total = 0;
+			for (int i = 0; i < calls; i++) {
+				total += flushDraw.getSuitCounts(suitCounts)[Suit.SPADE.getIndex()];
+			}
+			return total;
+		});
+	}
+
+}
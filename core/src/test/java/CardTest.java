@@ -0,0 +1,266 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Automated version of CardTester: the same scenarios, in the same order, but
+ * every result is asserted instead of printed, and invalid input is checked for
+ * IllegalArgumentException instead of being commented out. Also checks the
+ * validation bitmaps and that toString(), getPrintValue() and getPrintCard()
+ * don't allocate once warmed up
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+class CardTest {
+
+	@Test
+	void toStringOfDefaultCard() {
+		assertEquals("A " + Card.DEFAULT_SUIT, new Card().toString());
+	}
+
+	@Test
+	void setValue() {
+		Card test = new Card();
+
+		// - valid data (data changes + return true)
+		assertSetter(test.setValue(2), true, test, "2 " + Card.HEART);
+		assertSetter(test.setValue(10), true, test, "10 " + Card.HEART);
+		assertSetter(test.setValue(11), true, test, "J " + Card.HEART);
+		assertSetter(test.setValue(12), true, test, "Q " + Card.HEART);
+		assertSetter(test.setValue(13), true, test, "K " + Card.HEART);
+
+		// - invalid data (no data change + return false)
+		assertSetter(test.setValue(0), false, test, "K " + Card.HEART);
+		assertSetter(test.setValue(14), false, test, "K " + Card.HEART);
+	}
+
+	@Test
+	void setSuit() {
+		Card test = new Card();
+
+		// - valid data (data changes + return true)
+		assertSetter(test.setSuit(Card.DIAMOND), true, test, "A " + Card.DIAMOND);
+		assertSetter(test.setSuit(Card.CLUB), true, test, "A " + Card.CLUB);
+		assertSetter(test.setSuit(Card.SPADE), true, test, "A " + Card.SPADE);
+		assertSetter(test.setSuit(Card.HEART), true, test, "A " + Card.HEART);
+
+		// - invalid data (no data change + return false)
+		assertSetter(test.setSuit('H'), false, test, "A " + Card.HEART);
+		assertSetter(test.setSuit((char) 7), false, test, "A " + Card.HEART);
+	}
+
+	@Test
+	void setAll() {
+		Card test = new Card();
+
+		// - valid data (data changes + return true)
+		assertSetter(test.setAll(1, Card.DIAMOND), true, test, "A " + Card.DIAMOND);
+		assertSetter(test.setAll(3, Card.SPADE), true, test, "3 " + Card.SPADE);
+		assertSetter(test.setAll(4, Card.HEART), true, test, "4 " + Card.HEART);
+		assertSetter(test.setAll(5, Card.CLUB), true, test, "5 " + Card.CLUB);
+
+		// - invalid data (no data change + return false)
+		assertSetter(test.setAll(15, '8'), false, test, "5 " + Card.CLUB);
+		assertSetter(test.setAll(0, 'A'), false, test, "5 " + Card.CLUB);
+		assertSetter(test.setAll(-1, '*'), false, test, "5 " + Card.CLUB);
+	}
+
+	@Test
+	void sharedCardsNeverChange() {
+		Card shared = Card.of(4, Card.SPADE);
+
+		assertFalse(shared.setAll(5, Card.HEART));
+		assertFalse(shared.setValue(5));
+		assertFalse(shared.setSuit(Card.HEART));
+		assertEquals("4 " + Card.SPADE, shared.toString());
+	}
+
+	@Test
+	void fullConstructor() {
+		// - valid data
+		assertEquals("6 " + Card.DIAMOND, new Card(6, Card.DIAMOND).toString());
+		assertEquals("7 " + Card.HEART, new Card(7, Card.HEART).toString());
+
+		// - invalid data (throws exception)
+		assertThrows(IllegalArgumentException.class, () -> new Card(17, Card.CLUB));
+		assertThrows(IllegalArgumentException.class, () -> new Card(11, '3'));
+		assertThrows(IllegalArgumentException.class, () -> new Card(0, Card.HEART));
+	}
+
+	@Test
+	void sharedCardLookups() {
+		// - valid data, same shared object every way it's looked up
+		assertSame(Card.of(7, Card.HEART), Card.decode(Card.encode(7, Card.HEART)));
+		assertSame(Card.of(7, Card.HEART), Card.decodeUnchecked(Card.encode(7, Card.HEART)));
+
+		// - invalid data (-1 or exception)
+		assertEquals(-1, Card.encode(17, Card.CLUB));
+		assertThrows(IllegalArgumentException.class, () -> Card.of(14, Card.SPADE));
+		assertThrows(IllegalArgumentException.class, () -> Card.decode(Card.DECK_SIZE));
+		assertThrows(IllegalArgumentException.class, () -> Card.decode(-1));
+	}
+
+	@Test
+	void copyConstructor() {
+		Card original = new Card(5, Card.SPADE);
+		Card copy = new Card(original);
+
+		// - valid data
+		assertEquals("5 " + Card.SPADE, copy.toString());
+
+		// - deep copy, changing original leaves copy alone
+		original.setAll(7, Card.DIAMOND);
+		assertEquals("5 " + Card.SPADE, copy.toString());
+
+		// - invalid data (null passed, throws exception)
+		assertThrows(IllegalArgumentException.class, () -> new Card((Card) null));
+	}
+
+	@Test
+	void getSuit() {
+		Card test = new Card();
+
+		assertEquals(Card.DEFAULT_SUIT, test.getSuit());
+		test.setAll(9, Card.SPADE);
+		assertEquals(Card.SPADE, test.getSuit());
+	}
+
+	@Test
+	void getValue() {
+		Card test = new Card();
+
+		assertEquals(Card.DEFAULT_VALUE, test.getValue());
+		test.setAll(8, Card.CLUB);
+		assertEquals(8, test.getValue());
+	}
+
+	@Test
+	void getPrintValue() {
+		String[] expected = { "A", "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K" };
+		Card test = new Card();
+
+		for (int i = 1; i <= 13; i++) {
+			test.setValue(i);
+			assertEquals(expected[i - 1], test.getPrintValue(), "value " + i);
+		}
+	}
+
+	@Test
+	void equalsAndHashCode() {
+		Card original = new Card(8, Card.HEART), test = new Card(5, Card.CLUB);
+
+		//- mismatching object on both instance vars (returns false)
+		assertNotEquals(original, test);
+
+		//- mismatching object on value only (returns false)
+		test.setAll(5, Card.HEART);
+		assertNotEquals(original, test);
+
+		//- mismatching object on suit only (returns false)
+		test.setAll(8, Card.DIAMOND);
+		assertNotEquals(original, test);
+
+		//- matching object, both instance vars the same (returns true)
+		test.setAll(8, Card.HEART);
+		assertTrue(original.equals(test));
+		assertEquals(original.hashCode(), test.hashCode());
+
+		//- null (returns false)
+		assertFalse(original.equals((Card) null));
+	}
+
+	@Test
+	void getPrintCard() {
+		StringBuilder expected = new StringBuilder();
+		char[] suits = { Card.HEART, Card.DIAMOND, Card.CLUB, Card.SPADE };
+		String[] values = { "A", "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K" };
+
+		for (char suit : suits) {
+			for (String value : values) {
+				expected.append(value).append(' ').append(suit).append(' ');
+			}
+			expected.append('\n');
+		}
+		assertEquals(expected.toString(), new Card().getPrintCard());
+	}
+
+	@Test
+	void isValidSuitAcceptsExactlyFourSuits() {
+		// - every char, bitmap agrees with comparing against each suit
+		for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+			char suit = (char) c;
+			boolean expected = suit == Card.HEART || suit == Card.DIAMOND || suit == Card.SPADE || suit == Card.CLUB;
+
+			assertEquals(expected, Card.isValidSuit(suit), "char " + c);
+		}
+	}
+
+	@Test
+	void isValidValueAcceptsExactlyOneToThirteen() {
+		int[] values = { Integer.MIN_VALUE, -16, -15, -1, 0, 1, 13, 14, 15, 16, 17, 29, Integer.MAX_VALUE };
+
+		// - values around and far from 1-13, bitmap agrees with range check
+		for (int value = -300; value <= 300; value++) {
+			assertEquals(value >= 1 && value <= 13, Card.isValidValue(value), "value " + value);
+		}
+		for (int value : values) {
+			assertEquals(value >= 1 && value <= 13, Card.isValidValue(value), "value " + value);
+		}
+	}
+
+	@Test
+	void isValidCard() {
+		assertTrue(Card.isValidCard(13, Card.SPADE));
+		assertFalse(Card.isValidCard(14, Card.SPADE));
+		assertFalse(Card.isValidCard(13, '\u2661'));
+		assertFalse(Card.isValidCard(17, (char) (Card.SPADE + 16)));
+	}
+
+	@Test
+	void printMethodsDoNotAllocate() {
+		Card[] cards = new Card[Card.DECK_SIZE];
+
+		for (int i = 0; i < cards.length; i++) {
+			cards[i] = new Card(Card.decodeValue(i), Card.decodeSuit(i));
+		}
+
+		AllocationAssertions.assertNoAllocation("toString()", calls -> {
+			long total = 0;
+			for (int i = 0; i < calls; i++) {
+				total += cards[i % cards.length].toString().length();
+			}
+			return total;
+		});
+		AllocationAssertions.assertNoAllocation("getPrintValue()", calls -> {
+			long total = 0;
+			for (int i = 0; i < calls; i++) {
+				total += cards[i % cards.length].getPrintValue().length();
+			}
+			return total;
+		});
+		AllocationAssertions.assertNoAllocation("getPrintCard()", calls -> {
+			long total = 0;
+			for (int i = 0; i < calls; i++) {
+				total += cards[i % cards.length].getPrintCard().length();
+			}
+			return total;
+		});
+	}
+
+	/*** HELPER METHODS ***/
+	/**
+	 * Asserts setter result and card afterwards
+	 */
+	private static void assertSetter(boolean returned, boolean expected, Card card, String expectedCard) {
+		assertEquals(expected, returned);
+		assertEquals(expectedCard, card.toString());
+	}
+
+}
@@ -0,0 +1,30 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for CountingSystem: balanced systems start at 0, unbalanced ones start
+ * below 0 by deck count
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+class CountingSystemTest {
+
+	@Test
+	void balancedStartsAtZero() {
+		assertTrue(CountingSystem.HI_LO.isBalanced());
+		assertEquals(0, CountingSystem.HI_LO.getInitialRunningCount(6));
+	}
+
+	@Test
+	void unbalancedStartsBelowZero() {
+		assertFalse(CountingSystem.KO.isBalanced());
+		assertEquals(-20, CountingSystem.KO.getInitialRunningCount(6));
+		assertEquals(0, CountingSystem.KO.getInitialRunningCount(1));
+	}
+
+}
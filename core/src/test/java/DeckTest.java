@@ -0,0 +1,80 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for Deck: cards come off the top in deck order, bad counts deal
+ * nothing, and dealing from a warmed up deck doesn't allocate
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+class DeckTest {
+
+	@Test
+	void dealsInOrderAndStopsAtEnd() {
+		Deck deck = new Deck();
+		Card[] hand = new Card[Card.DECK_SIZE];
+		byte[] ordinals = new byte[Card.DECK_SIZE];
+
+		assertEquals(5, deck.dealN(hand, 0, 5));
+		assertSame(Card.decode(0), hand[0]);
+		assertSame(Card.decode(4), hand[4]);
+		assertEquals(47, deck.dealN(ordinals, 0, 50));
+		assertEquals(5, ordinals[0]);
+		assertEquals(51, ordinals[46]);
+		assertTrue(deck.isEmpty());
+		assertNull(deck.deal());
+		assertEquals(-1, deck.dealOrdinal());
+	}
+
+	@Test
+	void invalidData() {
+		Deck deck = new Deck();
+		Card[] hand = new Card[Card.DECK_SIZE];
+		byte[] ordinals = new byte[Card.DECK_SIZE];
+
+		deck.dealN(hand, 0, 5);
+		assertThrows(IllegalArgumentException.class, () -> deck.dealN(hand, 0, -3));
+		assertThrows(IllegalArgumentException.class, () -> deck.dealN(ordinals, 0, -3));
+		assertEquals(Card.DECK_SIZE - 5, deck.remaining());
+	}
+
+	@Test
+	void dealDoesNotAllocate() {
+		Deck deck = new Deck();
+
+		AllocationAssertions.assertNoAllocation("Deck.deal()", calls -> {
+			long total = 0;
+			for (int i = 0; i < calls; i++) {
+				if (deck.isEmpty()) {
+					deck.reset();
+				}
+				total += deck.deal().getValue();
+			}
+			return total;
+		});
+	}
+
+	@Test
+	void dealOrdinalDoesNotAllocate() {
+		Deck deck = new Deck();
+
+		AllocationAssertions.assertNoAllocation("Deck.dealOrdinal()", calls -> {
+			long total = 0;
+			for (int i = 0; i < calls; i++) {
+				if (deck.isEmpty()) {
+					deck.reset();
+				}
+				total += deck.dealOrdinal();
+			}
+			return total;
+		});
+	}
+
+}
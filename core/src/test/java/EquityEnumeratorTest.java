@@ -0,0 +1,81 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for EquityEnumerator: exact counts on the flop match ranking every
+ * turn and river by hand, and Monte Carlo lands near them
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+class EquityEnumeratorTest {
+
+	private static final Card[][] HOLE_CARDS = { { Card.of(1, Card.HEART), Card.of(1, Card.SPADE) },
+		{ Card.of(13, Card.DIAMOND), Card.of(13, Card.CLUB) }, { Card.of(8, Card.CLUB), Card.of(9, Card.CLUB) } };
+	private static final Card[] FLOP = { Card.of(2, Card.HEART), Card.of(7, Card.DIAMOND), Card.of(10, Card.CLUB) };
+
+	@Test
+	void flopMatchesEveryBoardByHand() {
+		Equity equity = EquityEnumerator.calculate(HOLE_CARDS, FLOP);
+		long dead = MonteCarloEquity.toBits(FLOP);
+		long[] wins = new long[HOLE_CARDS.length];
+		long[] ties = new long[HOLE_CARDS.length];
+
+		for (Card[] hole : HOLE_CARDS) {
+			dead |= MonteCarloEquity.toBits(hole);
+		}
+		for (int turn = 0; turn < Card.DECK_SIZE; turn++) {
+			for (int river = turn + 1; river < Card.DECK_SIZE; river++) {
+				long board = MonteCarloEquity.toBits(FLOP) | 1L << turn | 1L << river;
+				int[] strengths = new int[HOLE_CARDS.length];
+				int best = 0;
+				int winners = 0;
+
+				if ((dead & (1L << turn | 1L << river)) != 0) {
+					continue;
+				}
+				for (int player = 0; player < HOLE_CARDS.length; player++) {
+					strengths[player] = SevenCardEvaluator.evaluate(board | MonteCarloEquity.toBits(HOLE_CARDS[player]));
+					best = Math.max(best, strengths[player]);
+				}
+				for (int strength : strengths) {
+					winners += strength == best ? 1 : 0;
+				}
+				for (int player = 0; player < HOLE_CARDS.length; player++) {
+					if (strengths[player] == best) {
+						if (winners == 1) {
+							wins[player]++;
+						} else {
+							ties[player]++;
+						}
+					}
+				}
+			}
+		}
+		assertEquals(EquityEnumerator.choose(Card.DECK_SIZE - 9, 2), equity.getRunouts());
+		for (int player = 0; player < HOLE_CARDS.length; player++) {
+			assertEquals(wins[player], equity.getWins(player), "wins of player " + player);
+			assertEquals(ties[player], equity.getTies(player), "ties of player " + player);
+		}
+	}
+
+	@Test
+	void monteCarloLandsNearExact() {
+		assertEquals(EquityEnumerator.calculate(HOLE_CARDS, FLOP).getEquity(2),
+			MonteCarloEquity.calculate(HOLE_CARDS, FLOP, 200_000, 3).getEquity(2), 0.01);
+	}
+
+	@Test
+	void invalidData() {
+		Card[][] crowd = new Card[24][];
+
+		for (int player = 0; player < crowd.length; player++) {
+			crowd[player] = new Card[] { Card.decode(2 * player), Card.decode(2 * player + 1) };
+		}
+		assertThrows(IllegalArgumentException.class, () -> EquityEnumerator.calculate(crowd, new Card[0]));
+	}
+
+}
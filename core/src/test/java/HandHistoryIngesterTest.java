@@ -0,0 +1,62 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for HandHistoryIngester and the PackedHands it fills: hands come back in
+ * file order whichever side of a chunk edge their lines land on
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+class HandHistoryIngesterTest {
+
+	private static final String HISTORY = "Ah Kd\n\nA\u2665 10\u2666 K\u2660\r\nnot a hand\n2c 3c 4c 5c 6c\n7s";
+	private static final int[][] EXPECTED = { { 0, 25 }, { 0, 22, 51 }, { 27, 28, 29, 30, 31 }, { 45 } };
+
+	@TempDir
+	Path directory;
+
+	// tiny chunks so lines land on every side of chunk edges
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 5, 1 << 20 })
+	void ingestReadsHandsInOrder(int chunkSize) throws IOException {
+		Path file = Files.write(directory.resolve("history.txt"), HISTORY.getBytes(StandardCharsets.UTF_8));
+		PackedHands hands = HandHistoryIngester.ingest(file, ForkJoinPool.commonPool(), chunkSize);
+
+		assertEquals(EXPECTED.length, hands.getHandCount());
+		for (int h = 0; h < EXPECTED.length; h++) {
+			assertEquals(EXPECTED[h].length, hands.getHandSize(h), "size of hand " + h);
+			for (int i = 0; i < EXPECTED[h].length; i++) {
+				assertEquals(EXPECTED[h][i], hands.getCard(h, i), "card " + i + " of hand " + h);
+			}
+		}
+		assertEquals(1, hands.getMalformedLines());
+	}
+
+	// line ends are found while reading: \r only ends a line before \n, and a
+	// store that fills up mid-line grows and keeps reading
+	@Test
+	void parseLinesWithStrayReturnAndGrowingStore() {
+		PackedHands small = new PackedHands(1, 1);
+		byte[] lines = "Ah\rKd\nAh Kd Qs Js Ts \r\n\r".getBytes(StandardCharsets.UTF_8);
+
+		HandHistoryIngester.parseLines(ByteBuffer.wrap(lines), 0, lines.length, small);
+		assertEquals(1, small.getHandCount());
+		assertEquals(5, small.getHandSize(0));
+		assertEquals(48, small.getCard(0, 4));
+		assertEquals(1, small.getMalformedLines());
+	}
+
+}
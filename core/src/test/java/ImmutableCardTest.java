@@ -0,0 +1,61 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for ImmutableCard: shared objects, independence from the Card it was
+ * made from, and ordering that matches Card
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+class ImmutableCardTest {
+
+	@Test
+	void fromCardGivesSharedCard() {
+		Card original = new Card(12, Card.CLUB);
+		ImmutableCard frozen = ImmutableCard.from(original);
+
+		assertEquals("Q " + Card.CLUB, frozen.toString());
+		assertSame(ImmutableCard.of(12, Card.CLUB), frozen);
+		assertTrue(frozen.matches(original));
+		assertEquals(original.hashCode(), frozen.hashCode());
+	}
+
+	@Test
+	void changingOriginalLeavesImmutableCardAlone() {
+		Card original = new Card(12, Card.CLUB);
+		ImmutableCard frozen = ImmutableCard.from(original);
+
+		original.setAll(2, Card.HEART);
+		assertEquals("Q " + Card.CLUB, frozen.toString());
+		assertFalse(frozen.matches(original));
+	}
+
+	@Test
+	void toCardGivesChangeableCopy() {
+		ImmutableCard frozen = ImmutableCard.of(12, Card.CLUB);
+		Card copy = frozen.toCard();
+
+		assertTrue(copy.setValue(3));
+		assertEquals("Q " + Card.CLUB, frozen.toString());
+	}
+
+	@Test
+	void orderingMatchesCard() {
+		assertEquals(Integer.signum(new Card(13, Card.HEART).compareTo(new Card(1, Card.SPADE))),
+			Integer.signum(ImmutableCard.of(13, Card.HEART).compareTo(ImmutableCard.of(1, Card.SPADE))));
+	}
+
+	@Test
+	void invalidData() {
+		assertThrows(IllegalArgumentException.class, () -> ImmutableCard.of(0, Card.CLUB));
+		assertThrows(IllegalArgumentException.class, () -> ImmutableCard.from(null));
+	}
+
+}
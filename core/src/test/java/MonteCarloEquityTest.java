@@ -0,0 +1,56 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for MonteCarloEquity: a known preflop matchup, a board with nothing
+ * left to deal, and bad tables
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+class MonteCarloEquityTest {
+
+	private static final Card[][] ACES_VS_KINGS = { { Card.of(1, Card.HEART), Card.of(1, Card.SPADE) },
+		{ Card.of(13, Card.DIAMOND), Card.of(13, Card.CLUB) } };
+	private static final Card[] NO_BOARD = {};
+
+	// aces against kings before the flop win about 82%, and equities add up to 1
+	@Test
+	void acesVersusKings() {
+		Equity equity = MonteCarloEquity.calculate(ACES_VS_KINGS, NO_BOARD, 200_000, 42);
+
+		assertEquals(200_000, equity.getRunouts());
+		assertEquals(0.82, equity.getEquity(0), 0.01);
+		assertEquals(1, equity.getEquity(0) + equity.getEquity(1), 1e-9);
+		assertEquals(equity.toString(), MonteCarloEquity.calculate(ACES_VS_KINGS, NO_BOARD, 200_000, 42).toString());
+	}
+
+	// full board leaves nothing to deal, kings make a set and always win
+	@Test
+	void fullBoard() {
+		Card[] board = { Card.of(2, Card.HEART), Card.of(7, Card.DIAMOND), Card.of(9, Card.CLUB),
+			Card.of(13, Card.SPADE), Card.of(4, Card.SPADE) };
+		Equity equity = MonteCarloEquity.calculate(ACES_VS_KINGS, board, 1000, 1);
+
+		assertEquals(1000, equity.getWins(1));
+		assertEquals(0, equity.getWins(0));
+	}
+
+	@Test
+	void invalidData() {
+		Card[][] crowd = new Card[24][];
+
+		for (int player = 0; player < crowd.length; player++) {
+			crowd[player] = new Card[] { Card.decode(2 * player), Card.decode(2 * player + 1) };
+		}
+		assertThrows(IllegalArgumentException.class, () -> MonteCarloEquity.calculate(crowd, NO_BOARD, 10, 1));
+		assertThrows(IllegalArgumentException.class,
+			() -> MonteCarloEquity.calculate(new Card[][] { ACES_VS_KINGS[0], ACES_VS_KINGS[0] }, NO_BOARD, 10, 1));
+		assertThrows(IllegalArgumentException.class,
+			() -> MonteCarloEquity.calculate(new Card[][] { ACES_VS_KINGS[0] }, NO_BOARD, 10, 1));
+	}
+
+}
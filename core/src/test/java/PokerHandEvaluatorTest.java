@@ -0,0 +1,70 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for PokerHandEvaluator: category counts and strengths over every
+ * 5-card hand match poker math, plus the ends of the scale
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+class PokerHandEvaluatorTest {
+
+	@Test
+	void everyFiveCardHand() {
+		// hands in each category out of all C(52, 5), high card first
+		long[] expected = { 1_302_540, 1_098_240, 123_552, 54_912, 10_200, 5_108, 3_744, 624, 40 };
+		long[] counts = new long[expected.length];
+		boolean[] seen = new boolean[PokerHandEvaluator.HAND_COUNT + 1];
+		int distinct = 0;
+
+		for (int a = 0; a < Card.DECK_SIZE; a++) {
+			for (int b = a + 1; b < Card.DECK_SIZE; b++) {
+				for (int c = b + 1; c < Card.DECK_SIZE; c++) {
+					for (int d = c + 1; d < Card.DECK_SIZE; d++) {
+						for (int e = d + 1; e < Card.DECK_SIZE; e++) {
+							int strength = PokerHandEvaluator.evaluate(a, b, c, d, e);
+
+							assertTrue(strength >= 1 && strength <= PokerHandEvaluator.HAND_COUNT,
+								"strength " + strength + " out of range");
+							counts[PokerHandEvaluator.getCategory(strength)]++;
+							if (!seen[strength]) {
+								seen[strength] = true;
+								distinct++;
+							}
+						}
+					}
+				}
+			}
+		}
+		assertArrayEquals(expected, counts);
+		assertEquals(PokerHandEvaluator.HAND_COUNT, distinct);
+	}
+
+	@Test
+	void endsOfScale() {
+		assertEquals(PokerHandEvaluator.HAND_COUNT, PokerHandEvaluator.evaluate(Card.of(10, Card.SPADE),
+			Card.of(11, Card.SPADE), Card.of(12, Card.SPADE), Card.of(13, Card.SPADE), Card.of(1, Card.SPADE)));
+		assertEquals(1, PokerHandEvaluator.evaluate(Card.of(7, Card.SPADE), Card.of(5, Card.HEART),
+			Card.of(4, Card.SPADE), Card.of(3, Card.SPADE), Card.of(2, Card.SPADE)));
+	}
+
+	@Test
+	void wheelIsLowestStraight() {
+		assertTrue(PokerHandEvaluator.evaluate(Card.of(1, Card.CLUB), Card.of(2, Card.SPADE), Card.of(3, Card.SPADE),
+			Card.of(4, Card.SPADE), Card.of(5, Card.SPADE)) < PokerHandEvaluator.evaluate(Card.of(2, Card.CLUB),
+				Card.of(3, Card.SPADE), Card.of(4, Card.SPADE), Card.of(5, Card.SPADE), Card.of(6, Card.SPADE)));
+	}
+
+	@Test
+	void getCategoryName() {
+		assertEquals("Full House", PokerHandEvaluator.getCategoryName(PokerHandEvaluator.evaluate(
+			Card.of(3, Card.CLUB), Card.of(3, Card.SPADE), Card.of(3, Card.HEART), Card.of(9, Card.SPADE),
+			Card.of(9, Card.DIAMOND))));
+	}
+
+}
@@ -0,0 +1,71 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for SevenCardEvaluator against the best 5-card subset scored by
+ * PokerHandEvaluator
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+class SevenCardEvaluatorTest {
+
+	@Test
+	void matchesBestFiveCardSubset() {
+		Random random = new Random(13);
+		byte[] hand = new byte[7];
+		byte[] five = new byte[5];
+		int mismatches = 0;
+
+		// random 6 and 7 card hands
+		for (int trial = 0; trial < 300_000; trial++) {
+			int count = 6 + (trial & 1);
+			long bits = 0L;
+			int best = 0;
+
+			for (int i = 0; i < count; i++) {
+				int ordinal;
+
+				do {
+					ordinal = random.nextInt(Card.DECK_SIZE);
+				} while ((bits & 1L << ordinal) != 0);
+				bits |= 1L << ordinal;
+				hand[i] = (byte) ordinal;
+			}
+
+			// every 5 of the count cards, picked by a bitmask with 5 bits set
+			for (int subset = 0; subset < 1 << count; subset++) {
+				int n = 0;
+
+				if (Integer.bitCount(subset) != 5) {
+					continue;
+				}
+				for (int i = 0; i < count; i++) {
+					if ((subset & 1 << i) != 0) {
+						five[n++] = hand[i];
+					}
+				}
+				best = Math.max(best, PokerHandEvaluator.evaluate(five, 0));
+			}
+			if (SevenCardEvaluator.evaluate(bits) != best || SevenCardEvaluator.evaluate(hand, 0, count) != best) {
+				mismatches++;
+			}
+		}
+		assertEquals(0, mismatches, "hands of 300000 that differ");
+	}
+
+	// straight flush hidden in 7 cards beats the bigger flush cards around it
+	@Test
+	void straightFlushInSevenCards() {
+		assertEquals(PokerHandEvaluator.evaluate(Card.of(5, Card.HEART), Card.of(6, Card.HEART),
+			Card.of(7, Card.HEART), Card.of(8, Card.HEART), Card.of(9, Card.HEART)),
+			SevenCardEvaluator.evaluate(new Card[] { Card.of(5, Card.HEART), Card.of(6, Card.HEART),
+				Card.of(7, Card.HEART), Card.of(8, Card.HEART), Card.of(9, Card.HEART), Card.of(1, Card.HEART),
+				Card.of(13, Card.HEART) }));
+	}
+
+}
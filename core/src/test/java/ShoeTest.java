@@ -0,0 +1,67 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for Shoe: a whole shoe deals each card once per deck, the cut card
+ * calls for a shuffle, and an empty shoe stays empty
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+class ShoeTest {
+
+	@Test
+	void dealsEveryCardOncePerDeck() {
+		Shoe shoe = new Shoe(2, 0.5);
+		byte[] dealt = new byte[shoe.getSize()];
+		int[] copies = new int[Card.DECK_SIZE];
+
+		shoe.shuffle(new Random(7));
+		assertEquals(10, shoe.dealN(dealt, 0, 10));
+		assertFalse(shoe.needsShuffle());
+		assertEquals(dealt.length - 10, shoe.dealN(dealt, 10, dealt.length));
+		for (byte ordinal : dealt) {
+			copies[ordinal]++;
+		}
+		for (int ordinal = 0; ordinal < Card.DECK_SIZE; ordinal++) {
+			assertEquals(2, copies[ordinal], "copies of ordinal " + ordinal);
+		}
+		assertTrue(shoe.needsShuffle());
+	}
+
+	@Test
+	void emptyShoeStaysEmpty() {
+		Shoe shoe = new Shoe(2, 0.5);
+		byte[] dealt = new byte[5];
+
+		shoe.shuffle(new Random(7));
+		for (int i = 0; i < 1000; i++) {
+			shoe.deal();
+		}
+		assertEquals(0, shoe.remaining());
+		assertEquals(-1, shoe.dealOrdinal());
+		assertNull(shoe.deal());
+		assertEquals(0, shoe.dealN(dealt, 0, 5));
+	}
+
+	@Test
+	void invalidData() {
+		Shoe shoe = new Shoe(2, 0.5);
+		byte[] dealt = new byte[shoe.getSize()];
+
+		shoe.shuffle(new Random(7));
+		assertThrows(IllegalArgumentException.class, () -> shoe.dealN(dealt, 0, -10));
+		assertEquals(shoe.getSize(), shoe.remaining());
+		assertThrows(IllegalArgumentException.class, () -> new Shoe(0, 0.75));
+		assertThrows(IllegalArgumentException.class, () -> new Shoe(6, 1.5));
+	}
+
+}
@@ -0,0 +1,47 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for Suit and the suit index it shares with Card: index is deck order
+ * (hearts, diamonds, clubs, spades) every way it's looked up
+ *
+ * @author Joshuah Tello
+ * @version 1.0
+ */
+
+class SuitTest {
+
+	private static final char[] SYMBOLS = { Card.HEART, Card.DIAMOND, Card.CLUB, Card.SPADE };
+
+	@Test
+	void indexIsDeckOrderBothWays() {
+		for (int i = 0; i < SYMBOLS.length; i++) {
+			Suit suit = Suit.fromSymbol(SYMBOLS[i]);
+
+			assertEquals(i, Card.suitIndex(SYMBOLS[i]));
+			assertEquals(i, suit.getIndex());
+			assertEquals(SYMBOLS[i], suit.getSymbol());
+			assertSame(suit, Suit.fromIndex(i));
+			assertEquals(i, new Card(7, SYMBOLS[i]).getSuitIndex());
+			assertSame(suit, Suit.of(Card.of(7, SYMBOLS[i])));
+		}
+	}
+
+	@Test
+	void decodeSuitIndexMatchesCard() {
+		for (int ordinal = 0; ordinal < Card.DECK_SIZE; ordinal++) {
+			assertEquals(Card.decode(ordinal).getSuitIndex(), Card.decodeSuitIndex(ordinal), "ordinal " + ordinal);
+		}
+	}
+
+	@Test
+	void invalidData() {
+		assertEquals(-1, Card.suitIndex('H'));
+		assertThrows(IllegalArgumentException.class, () -> Suit.fromSymbol('\u2661'));
+		assertThrows(IllegalArgumentException.class, () -> Suit.fromIndex(4));
+	}
+
+}